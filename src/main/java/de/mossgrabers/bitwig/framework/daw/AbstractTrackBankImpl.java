@@ -5,7 +5,10 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
+import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -25,6 +28,7 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<TrackBank, ITrack> implements ITrackBank
 {
+    private final ChangeTracker   changeTracker;
     private final ApplicationImpl application;
     protected final CursorTrack   cursorTrack;
     private final Track           rootGroup;
@@ -35,6 +39,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param bank The bank to encapsulate
      * @param cursorTrack The cursor track assigned to this track bank
      * @param rootGroup The root track
@@ -43,21 +48,24 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
      * @param numScenes The number of scenes of a bank page
      * @param numSends The number of sends of a bank page
      */
-    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final int numSends)
+    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final int numSends)
     {
         super (host, valueChanger, bank, numTracks, numScenes, numSends);
 
+        this.changeTracker = changeTracker;
         this.application = application;
         this.cursorTrack = cursorTrack;
         this.rootGroup = rootGroup;
 
         this.initItems ();
 
-        this.sceneBank = new SceneBankImpl (host, valueChanger, this.numScenes == 0 ? null : this.bank.sceneBank (), this.numScenes);
+        this.sceneBank = new SceneBankImpl (host, valueChanger, changeTracker, this.numScenes == 0 ? null : this.bank.sceneBank (), this.numScenes);
 
         if (this.bank == null)
             return;
 
+        Util.addChangeObserver (this.bank.scrollPosition (), () -> changeTracker.markChanged (ChangeCategory.MIXER));
+
         // Note: cursorIndex is defined for all banks but currently only works for track banks
         this.bank.cursorIndex ().addValueObserver (index -> {
             for (int i = 0; i < this.getPageSize (); i++)
@@ -129,7 +137,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new TrackImpl (this.host, this.valueChanger, this.application, this.cursorTrack, this.rootGroup, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
+            this.items.add (new TrackImpl (this.host, this.valueChanger, this.changeTracker, this.application, this.cursorTrack, this.rootGroup, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
     }
 
 
@@ -0,0 +1,475 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.bitwig.framework.daw.data.Util;
+import de.mossgrabers.framework.daw.ClipOverview;
+import de.mossgrabers.framework.daw.IStepInfo;
+
+import com.bitwig.extension.controller.api.Clip;
+import com.bitwig.extension.controller.api.ControllerHost;
+import com.bitwig.extension.controller.api.NoteStep;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+
+/**
+ * An index of the notes of the whole cursor clip. Bitwig only reports the notes of the monitored
+ * window of a clip. Therefore, the index uses its own cursor clip and scrolls its window in the
+ * background over the loop of the clip. For each MIDI channel and note the index keeps a sorted set
+ * of the steps which are covered by a note and of the steps at which a note starts. The velocities of
+ * the note starts are kept as well to update an overview of the clip. Since all note clips follow
+ * the same clip, one index is shared by all of them. It indexes with the step length which was set
+ * last, note clips with a different step length do not use it. The clip is only scanned while at
+ * least one of the note clips has its observers enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClipNoteIndex
+{
+    private static final int     NUM_CHANNELS     = 16;
+    private static final int     NUM_ROWS         = 128;
+    /** The number of steps of the scanned window, one bit for each step in a long. */
+    private static final int     PAGE_STEPS       = Long.SIZE;
+    /** The time in milliseconds to wait for the data of a window page. */
+    private static final int     PAGE_DELAY       = 100;
+    /** The time in milliseconds to wait before rescanning the clip. */
+    private static final int     CYCLE_DELAY      = 2000;
+
+    private final ControllerHost host;
+    private final Clip           clip;
+    private final ClipOverview   overview         = new ClipOverview ();
+
+    private final long [] []     windowNotes      = new long [NUM_CHANNELS] [NUM_ROWS];
+    private final long [] []     windowStarts     = new long [NUM_CHANNELS] [NUM_ROWS];
+    private final BitSet [] []   notes            = new BitSet [NUM_CHANNELS] [NUM_ROWS];
+    private final BitSet [] []   starts           = new BitSet [NUM_CHANNELS] [NUM_ROWS];
+    private final byte [] [] []  windowVelocities = new byte [NUM_CHANNELS] [NUM_ROWS] [PAGE_STEPS];
+    private final byte [] [] []  velocities       = new byte [NUM_CHANNELS] [NUM_ROWS] [];
+
+    private double               stepLength       = 1.0 / 4.0;
+    private int                  pageStart        = 0;
+    private int                  length           = 0;
+    private boolean              isComplete       = false;
+    private boolean              isCycleValid     = false;
+    private int                  numActive        = 0;
+    private boolean              isScanScheduled  = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public ClipNoteIndex (final ControllerHost host)
+    {
+        this.host = host;
+
+        this.clip = host.createLauncherCursorClip (PAGE_STEPS, NUM_ROWS);
+        this.clip.setStepSize (this.stepLength);
+        this.clip.addNoteStepObserver (this::handleStepData);
+
+        // The notes of the previous clip are invalid if the cursor selects another clip
+        this.clip.exists ().addValueObserver (value -> this.reset ());
+        this.clip.getTrack ().position ().addValueObserver (value -> this.reset ());
+        this.clip.getLoopStart ().addValueObserver (value -> this.reset ());
+        this.clip.getLoopLength ().addValueObserver (value -> this.reset ());
+    }
+
+
+    /**
+     * Enable or disable the index for one of its users. The clip is scanned as long as at least one
+     * user is active. If the last user is disabled, the scan is suspended and the observers of the
+     * scanned clip are unsubscribed. The scan restarts from the start of the clip when a user is
+     * enabled again.
+     *
+     * @param isActive True to enable, false to disable
+     */
+    public void setActive (final boolean isActive)
+    {
+        final boolean wasActive = this.numActive > 0;
+        this.numActive = Math.max (0, this.numActive + (isActive ? 1 : -1));
+        final boolean active = this.numActive > 0;
+        if (wasActive == active)
+            return;
+
+        Util.setIsSubscribed (this.clip, active);
+        Util.setIsSubscribed (this.clip.exists (), active);
+        Util.setIsSubscribed (this.clip.getTrack ().position (), active);
+        Util.setIsSubscribed (this.clip.getLoopStart (), active);
+        Util.setIsSubscribed (this.clip.getLoopLength (), active);
+
+        if (!active)
+        {
+            // The index is not updated anymore
+            this.isComplete = false;
+            return;
+        }
+
+        this.reset ();
+        if (!this.isScanScheduled)
+        {
+            this.isScanScheduled = true;
+            this.host.scheduleTask (this::scan, PAGE_DELAY);
+        }
+    }
+
+
+    /**
+     * Set the length of a step. Clears the index and restarts the scan if the length changes.
+     *
+     * @param stepLength The length of a step in beats
+     */
+    public void setStepLength (final double stepLength)
+    {
+        if (this.stepLength == stepLength)
+            return;
+
+        this.stepLength = stepLength;
+        this.clip.setStepSize (stepLength);
+        this.reset ();
+    }
+
+
+    /**
+     * Get the length of a step.
+     *
+     * @return The length of a step in beats
+     */
+    public double getStepLength ()
+    {
+        return this.stepLength;
+    }
+
+
+    /**
+     * Get the overview of the indexed notes.
+     *
+     * @return The overview
+     */
+    public ClipOverview getOverview ()
+    {
+        return this.overview;
+    }
+
+
+    /**
+     * Has the whole clip been scanned at least once with the current step length?
+     *
+     * @return True if complete
+     */
+    public boolean isComplete ()
+    {
+        return this.isComplete;
+    }
+
+
+    /**
+     * Update the state of a step, e.g. from the data of the monitored page of a note clip.
+     *
+     * @param channel The MIDI channel
+     * @param step The step counted from the start of the clip
+     * @param row The row
+     * @param state The state of the step, see the constants in IStepInfo
+     * @param velocity The velocity of a note which starts at the step (0-1)
+     */
+    public void update (final int channel, final int step, final int row, final int state, final double velocity)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS || row < 0 || row >= NUM_ROWS || step < 0)
+            return;
+
+        if (state > IStepInfo.NOTE_OFF)
+            getBits (this.notes, channel, row).set (step);
+        else if (this.notes[channel][row] != null)
+            this.notes[channel][row].clear (step);
+
+        if (state == IStepInfo.NOTE_START)
+        {
+            getBits (this.starts, channel, row).set (step);
+            this.setVelocity (channel, step, row, toMidiVelocity (velocity));
+        }
+        else if (this.starts[channel][row] != null)
+            this.starts[channel][row].clear (step);
+
+        this.updateOverview (step, row);
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step counted from the start of the clip
+     * @param row The row
+     * @return The state of the step, see the constants in IStepInfo
+     */
+    public int getState (final int channel, final int step, final int row)
+    {
+        if (isSet (this.starts[channel][row], step))
+            return IStepInfo.NOTE_START;
+        return isSet (this.notes[channel][row], step) ? IStepInfo.NOTE_CONTINUE : IStepInfo.NOTE_OFF;
+    }
+
+
+    /**
+     * Get the next step which is covered by a note.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param fromStep The step to start searching from (inclusive)
+     * @return The step or -1 if there is no further note
+     */
+    public int getNextStepWithData (final int channel, final int row, final int fromStep)
+    {
+        final BitSet bits = this.notes[channel][row];
+        return bits == null || fromStep < 0 ? -1 : bits.nextSetBit (fromStep);
+    }
+
+
+    /**
+     * Get the previous step which is covered by a note.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param fromStep The step to start searching from (inclusive)
+     * @return The step or -1 if there is no previous note
+     */
+    public int getPreviousStepWithData (final int channel, final int row, final int fromStep)
+    {
+        final BitSet bits = this.notes[channel][row];
+        return bits == null || fromStep < 0 ? -1 : bits.previousSetBit (fromStep);
+    }
+
+
+    /**
+     * Stores the state of a step of the scanned window.
+     *
+     * @param noteStep The new data
+     */
+    private void handleStepData (final NoteStep noteStep)
+    {
+        final int channel = noteStep.channel ();
+        final int x = noteStep.x ();
+        final int row = noteStep.y ();
+        if (channel < 0 || channel >= NUM_CHANNELS || x < 0 || x >= PAGE_STEPS || row < 0 || row >= NUM_ROWS)
+            return;
+
+        final long mask = 1L << x;
+        final int state;
+        switch (noteStep.state ())
+        {
+            case NoteOn:
+                this.windowVelocities[channel][row][x] = toMidiVelocity (noteStep.velocity ());
+                this.windowNotes[channel][row] |= mask;
+                this.windowStarts[channel][row] |= mask;
+                state = IStepInfo.NOTE_START;
+                break;
+            case NoteSustain:
+                this.windowNotes[channel][row] |= mask;
+                this.windowStarts[channel][row] &= ~mask;
+                state = IStepInfo.NOTE_CONTINUE;
+                break;
+            default:
+                this.windowNotes[channel][row] &= ~mask;
+                this.windowStarts[channel][row] &= ~mask;
+                state = IStepInfo.NOTE_OFF;
+                break;
+        }
+        this.update (channel, this.pageStart + x, row, state, noteStep.velocity ());
+    }
+
+
+    /**
+     * Copy the data of the scanned window into the index and scroll the window to the next page.
+     * Steps which do not change when the window is scrolled are not reported again, therefore the
+     * whole window is copied after the data of a page has arrived.
+     */
+    private void scan ()
+    {
+        if (this.numActive == 0)
+        {
+            this.isScanScheduled = false;
+            return;
+        }
+
+        this.commitWindow ();
+
+        this.pageStart += PAGE_STEPS;
+        final int delay;
+        if (this.pageStart < this.length)
+            delay = PAGE_DELAY;
+        else
+        {
+            this.clear (this.length);
+            this.isComplete = this.isCycleValid;
+            this.isCycleValid = true;
+            this.pageStart = 0;
+            this.length = this.calcLength ();
+            delay = CYCLE_DELAY;
+        }
+
+        this.clip.scrollToStep (this.pageStart);
+        this.host.scheduleTask (this::scan, delay);
+    }
+
+
+    private void commitWindow ()
+    {
+        final int end = this.pageStart + PAGE_STEPS;
+        for (int row = 0; row < NUM_ROWS; row++)
+        {
+            boolean hasData = false;
+            for (int channel = 0; channel < NUM_CHANNELS; channel++)
+            {
+                final BitSet bits = this.notes[channel][row];
+                final int next = bits == null ? -1 : bits.nextSetBit (this.pageStart);
+                if (this.windowNotes[channel][row] != 0 || next >= 0 && next < end)
+                    hasData = true;
+
+                commitWindow (this.windowNotes[channel][row], this.notes, channel, row, this.pageStart, end);
+                commitWindow (this.windowStarts[channel][row], this.starts, channel, row, this.pageStart, end);
+
+                for (long w = this.windowStarts[channel][row]; w != 0; w &= w - 1)
+                {
+                    final int x = Long.numberOfTrailingZeros (w);
+                    this.setVelocity (channel, this.pageStart + x, row, this.windowVelocities[channel][row][x]);
+                }
+            }
+
+            // Rows which neither had nor have notes in the window cannot change the overview
+            if (hasData)
+            {
+                for (int step = this.pageStart; step < end; step++)
+                    this.updateOverview (step, row);
+            }
+        }
+    }
+
+
+    private static void commitWindow (final long window, final BitSet [] [] index, final int channel, final int row, final int start, final int end)
+    {
+        if (window == 0)
+        {
+            if (index[channel][row] != null)
+                index[channel][row].clear (start, end);
+            return;
+        }
+
+        final BitSet bits = getBits (index, channel, row);
+        bits.clear (start, end);
+        for (long w = window; w != 0; w &= w - 1)
+            bits.set (start + Long.numberOfTrailingZeros (w));
+    }
+
+
+    /**
+     * Clear the index and restart the scan from the start of the clip. The index is incomplete
+     * until the whole clip has been scanned again.
+     */
+    private void reset ()
+    {
+        this.clear (0);
+        this.isComplete = false;
+        this.isCycleValid = false;
+        this.pageStart = 0;
+        this.length = this.calcLength ();
+        this.clip.scrollToStep (0);
+    }
+
+
+    /**
+     * Update the overview with the notes of all MIDI channels at a step.
+     *
+     * @param step The step counted from the start of the clip
+     * @param row The row
+     */
+    private void updateOverview (final int step, final int row)
+    {
+        int velocity = 0;
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            if (isSet (this.starts[channel][row], step))
+                velocity = Math.max (velocity, this.getVelocity (channel, step, row));
+            else if (isSet (this.notes[channel][row], step))
+                velocity = Math.max (velocity, 1);
+        }
+        this.overview.update (step, row, velocity);
+    }
+
+
+    private void setVelocity (final int channel, final int step, final int row, final int velocity)
+    {
+        byte [] values = this.velocities[channel][row];
+        if (values == null || step >= values.length)
+        {
+            values = values == null ? new byte [Math.max (PAGE_STEPS, step + 1)] : Arrays.copyOf (values, Math.max (2 * values.length, step + 1));
+            this.velocities[channel][row] = values;
+        }
+        values[step] = (byte) velocity;
+    }
+
+
+    private int getVelocity (final int channel, final int step, final int row)
+    {
+        final byte [] values = this.velocities[channel][row];
+        return values != null && step < values.length ? values[step] : 1;
+    }
+
+
+    /**
+     * Remove all steps starting at the given step.
+     *
+     * @param fromStep The first step to remove
+     */
+    private void clear (final int fromStep)
+    {
+        for (int channel = 0; channel < NUM_CHANNELS; channel++)
+        {
+            for (int row = 0; row < NUM_ROWS; row++)
+            {
+                if (this.notes[channel][row] != null)
+                    this.notes[channel][row].clear (fromStep, Integer.MAX_VALUE);
+                if (this.starts[channel][row] != null)
+                    this.starts[channel][row].clear (fromStep, Integer.MAX_VALUE);
+            }
+        }
+        this.overview.clear (fromStep);
+    }
+
+
+    /**
+     * Calculate the number of steps which cover the loop of the clip.
+     *
+     * @return The number of steps
+     */
+    private int calcLength ()
+    {
+        if (!this.clip.exists ().get ())
+            return 0;
+        final double end = this.clip.getLoopStart ().get () + this.clip.getLoopLength ().get ();
+        return (int) Math.ceil (end / this.stepLength);
+    }
+
+
+    private static int toMidiVelocity (final double velocity)
+    {
+        return Math.max (1, Math.min (127, (int) Math.round (velocity * 127)));
+    }
+
+
+    private static BitSet getBits (final BitSet [] [] index, final int channel, final int row)
+    {
+        if (index[channel][row] == null)
+            index[channel][row] = new BitSet ();
+        return index[channel][row];
+    }
+
+
+    private static boolean isSet (final BitSet bits, final int step)
+    {
+        return bits != null && step >= 0 && bits.get (step);
+    }
+}
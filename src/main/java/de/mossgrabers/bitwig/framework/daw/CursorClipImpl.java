@@ -7,6 +7,9 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
+import de.mossgrabers.framework.daw.ClipOverview;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
@@ -15,7 +18,9 @@ import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.NoteStep;
-import com.bitwig.extension.controller.api.SettableColorValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 /**
@@ -25,15 +30,34 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class CursorClipImpl implements INoteClip
 {
-    private final ControllerHost     host;
-    private IValueChanger            valueChanger;
-    private int                      numSteps;
-    private int                      numRows;
-
-    private final IStepInfo [] [] [] launcherData;
-    private Clip                     launcherClip;
-    private int                      editPage = 0;
-    private double                   stepLength;
+    private static final int            CHANGE_DURATION         = 0x01;
+    private static final int            CHANGE_VELOCITY         = 0x02;
+    private static final int            CHANGE_RELEASE_VELOCITY = 0x04;
+    private static final int            CHANGE_PRESSURE         = 0x08;
+    private static final int            CHANGE_TIMBRE           = 0x10;
+    private static final int            CHANGE_PAN              = 0x20;
+    private static final int            CHANGE_TRANSPOSE        = 0x40;
+    private static final int            CHANGE_GAIN             = 0x80;
+
+    private static final ClipOverview   EMPTY_OVERVIEW          = new ClipOverview ();
+
+    private final ControllerHost        host;
+    private IValueChanger               valueChanger;
+    private final ChangeTracker         changeTracker;
+    private int                         numSteps;
+    private int                         numRows;
+
+    private final StepStore             launcherData;
+    private final StepOccupancy         occupancy;
+    private final ClipNoteIndex         noteIndex;
+    private boolean                     isIndexActive           = true;
+    private Clip                        launcherClip;
+    private int                         editPage                = 0;
+    private double                      stepLength;
+    private ColorEx                     color                   = ColorEx.BLACK;
+
+    private final Map<Integer, Integer> pendingChanges          = new LinkedHashMap<> ();
+    private int                         transactionDepth        = 0;
 
 
     /**
@@ -41,37 +65,48 @@ public class CursorClipImpl implements INoteClip
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param numSteps The number of steps of the clip to monitor
      * @param numRows The number of note rows of the clip to monitor
+     * @param noteIndex The index of the notes of the whole clip, shared by all note clips, may be
+     *            null
      */
-    public CursorClipImpl (final ControllerHost host, final IValueChanger valueChanger, final int numSteps, final int numRows)
+    public CursorClipImpl (final ControllerHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final int numSteps, final int numRows, final ClipNoteIndex noteIndex)
     {
         this.host = host;
         this.valueChanger = valueChanger;
+        this.changeTracker = changeTracker;
 
         this.numSteps = numSteps;
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherData = new StepStore (this.numSteps, this.numRows);
+        this.occupancy = new StepOccupancy (this.numSteps, this.numRows);
+        this.noteIndex = noteIndex;
+        if (this.noteIndex != null)
+            this.noteIndex.setActive (true);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
 
         this.launcherClip.addNoteStepObserver (this::handleStepData);
 
-        this.launcherClip.exists ().markInterested ();
-        this.launcherClip.playingStep ().markInterested ();
-        this.launcherClip.getPlayStart ().markInterested ();
-        this.launcherClip.getPlayStop ().markInterested ();
-        this.launcherClip.getLoopStart ().markInterested ();
-        this.launcherClip.getLoopLength ().markInterested ();
-        this.launcherClip.isLoopEnabled ().markInterested ();
-        this.launcherClip.getShuffle ().markInterested ();
-        this.launcherClip.getAccent ().markInterested ();
-        this.launcherClip.canScrollStepsBackwards ().markInterested ();
-        this.launcherClip.canScrollStepsForwards ().markInterested ();
-        this.launcherClip.color ().markInterested ();
+        Util.addChangeObserver (this.launcherClip.exists (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.playingStep (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getPlayStart (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getPlayStop (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getLoopStart (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getLoopLength (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.isLoopEnabled (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getShuffle (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.getAccent (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.canScrollStepsBackwards (), this::markChanged);
+        Util.addChangeObserver (this.launcherClip.canScrollStepsForwards (), this::markChanged);
+        this.launcherClip.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.intern (red, green, blue);
+            this.markChanged ();
+        });
     }
 
 
@@ -79,6 +114,12 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void enableObservers (final boolean enable)
     {
+        if (this.noteIndex != null && this.isIndexActive != enable)
+        {
+            this.isIndexActive = enable;
+            this.noteIndex.setActive (enable);
+        }
+
         Util.setIsSubscribed (this.launcherClip.exists (), enable);
         Util.setIsSubscribed (this.launcherClip.playingStep (), enable);
         Util.setIsSubscribed (this.launcherClip.getPlayStart (), enable);
@@ -114,8 +155,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.getClip ().color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -329,6 +369,8 @@ public class CursorClipImpl implements INoteClip
     {
         this.stepLength = length;
         this.launcherClip.setStepSize (length);
+        if (this.noteIndex != null)
+            this.noteIndex.setStepLength (length);
     }
 
 
@@ -344,12 +386,9 @@ public class CursorClipImpl implements INoteClip
     @Override
     public IStepInfo getStep (final int channel, final int step, final int row)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
         try
         {
-            if (stepInfos[channel][step] == null || stepInfos[channel][step][row] == null)
-                return EmptyStepInfo.INSTANCE;
-            return stepInfos[channel][step][row];
+            return this.getStepStore ().getStep (channel, step, row);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -382,14 +421,22 @@ public class CursorClipImpl implements INoteClip
         this.setStep (channel, step, row, (int) (noteStep.getVelocity () * 127), 0.25);
         this.host.scheduleTask ( () -> {
 
-            this.updateStepVelocity (channel, step, row, noteStep.getVelocity ());
-            this.updateStepDuration (channel, step, row, noteStep.getDuration ());
-            this.updateStepGain (channel, step, row, noteStep.getGain ());
-            this.updateStepPan (channel, step, row, noteStep.getPan ());
-            this.updateStepPressure (channel, step, row, noteStep.getPressure ());
-            this.updateStepReleaseVelocity (channel, step, row, noteStep.getReleaseVelocity ());
-            this.updateStepTimbre (channel, step, row, noteStep.getTimbre ());
-            this.updateStepTranspose (channel, step, row, noteStep.getTranspose ());
+            this.startStepEdits ();
+            try
+            {
+                this.updateStepVelocity (channel, step, row, noteStep.getVelocity ());
+                this.updateStepDuration (channel, step, row, noteStep.getDuration ());
+                this.updateStepGain (channel, step, row, noteStep.getGain ());
+                this.updateStepPan (channel, step, row, noteStep.getPan ());
+                this.updateStepPressure (channel, step, row, noteStep.getPressure ());
+                this.updateStepReleaseVelocity (channel, step, row, noteStep.getReleaseVelocity ());
+                this.updateStepTimbre (channel, step, row, noteStep.getTimbre ());
+                this.updateStepTranspose (channel, step, row, noteStep.getTranspose ());
+            }
+            finally
+            {
+                this.commitStepEdits ();
+            }
 
         }, 100);
     }
@@ -417,10 +464,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepDuration (final int channel, final int step, final int row, final double duration)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setDuration (duration);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setDuration (duration);
+        this.getStepStore ().setDuration (channel, step, row, duration);
+        this.sendChange (channel, step, row, CHANGE_DURATION);
     }
 
 
@@ -438,10 +483,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepVelocity (final int channel, final int step, final int row, final double velocity)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setVelocity (velocity);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setVelocity (velocity);
+        this.getStepStore ().setVelocity (channel, step, row, velocity);
+        this.sendChange (channel, step, row, CHANGE_VELOCITY);
     }
 
 
@@ -459,10 +502,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepReleaseVelocity (final int channel, final int step, final int row, final double releaseVelocity)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setReleaseVelocity (releaseVelocity);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setReleaseVelocity (releaseVelocity);
+        this.getStepStore ().setReleaseVelocity (channel, step, row, releaseVelocity);
+        this.sendChange (channel, step, row, CHANGE_RELEASE_VELOCITY);
     }
 
 
@@ -480,10 +521,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepPressure (final int channel, final int step, final int row, final double pressure)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setPressure (pressure);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setPressure (pressure);
+        this.getStepStore ().setPressure (channel, step, row, pressure);
+        this.sendChange (channel, step, row, CHANGE_PRESSURE);
     }
 
 
@@ -501,10 +540,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepTimbre (final int channel, final int step, final int row, final double timbre)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setTimbre (timbre);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setTimbre (timbre);
+        this.getStepStore ().setTimbre (channel, step, row, timbre);
+        this.sendChange (channel, step, row, CHANGE_TIMBRE);
     }
 
 
@@ -522,10 +559,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepPan (final int channel, final int step, final int row, final double pan)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setPan (pan);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setPan (pan);
+        this.getStepStore ().setPan (channel, step, row, pan);
+        this.sendChange (channel, step, row, CHANGE_PAN);
     }
 
 
@@ -543,10 +578,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepTranspose (final int channel, final int step, final int row, final double transpose)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setTranspose (transpose);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setTranspose (transpose);
+        this.getStepStore ().setTranspose (channel, step, row, transpose);
+        this.sendChange (channel, step, row, CHANGE_TRANSPOSE);
     }
 
 
@@ -564,10 +597,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepGain (final int channel, final int step, final int row, final double gain)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
-        stepInfo.setGain (gain);
-        if (!stepInfo.isEditing ())
-            this.getClip ().getStep (channel, step, row).setGain (gain);
+        this.getStepStore ().setGain (channel, step, row, gain);
+        this.sendChange (channel, step, row, CHANGE_GAIN);
     }
 
 
@@ -583,13 +614,63 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
+        return this.occupancy.hasRowData (channel, row);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStepState (final int channel, final int step)
+    {
+        return this.occupancy.getStepState (channel, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithData (final int channel, final int row, final int fromStep)
+    {
+        final int pageOffset = this.editPage * this.numSteps;
+        if (this.isIndexed () && this.noteIndex.isComplete ())
         {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () > 0)
-                return true;
+            final int step = this.noteIndex.getNextStepWithData (channel, row, Math.max (0, pageOffset + fromStep));
+            return step < 0 ? -1 : step - pageOffset;
         }
-        return false;
+
+        for (int step = Math.max (0, fromStep); step < this.numSteps; step++)
+        {
+            if (this.getStep (channel, step, row).getState () > 0)
+                return step;
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithData (final int channel, final int row, final int fromStep)
+    {
+        final int pageOffset = this.editPage * this.numSteps;
+        if (this.isIndexed () && this.noteIndex.isComplete ())
+        {
+            final int step = this.noteIndex.getPreviousStepWithData (channel, row, pageOffset + fromStep);
+            return step < 0 ? -1 : step - pageOffset;
+        }
+
+        for (int step = Math.min (fromStep, this.numSteps - 1); step >= 0; step--)
+        {
+            if (this.getStep (channel, step, row).getState () > 0)
+                return step;
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ClipOverview getOverview ()
+    {
+        return this.isIndexed () ? this.noteIndex.getOverview () : EMPTY_OVERVIEW;
     }
 
 
@@ -627,10 +708,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.occupancy.getLowerRowWithData (channel);
     }
 
 
@@ -638,10 +716,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.occupancy.getUpperRowWithData (channel);
     }
 
 
@@ -649,6 +724,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void scrollToPage (final int page)
     {
+        // Send the collected changes while the steps are still on the edit page
+        this.flush ();
         this.getClip ().scrollToStep (page * this.numSteps);
         this.editPage = page;
     }
@@ -668,6 +745,7 @@ public class CursorClipImpl implements INoteClip
     {
         if (this.editPage <= 0)
             return;
+        this.flush ();
         this.getClip ().scrollStepsPageBackwards ();
         this.editPage--;
     }
@@ -677,6 +755,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void scrollStepsPageForward ()
     {
+        this.flush ();
         this.getClip ().scrollStepsPageForward ();
         this.editPage++;
     }
@@ -740,26 +819,83 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void edit (final int channel, final int step, final int row, final boolean enable)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepStore store = this.getStepStore ();
         if (enable)
         {
-            stepInfo.setEditing (true);
-            this.delayedUpdate (channel, step, row);
+            store.setEditing (channel, step, row, true);
             return;
         }
 
-        this.sendClipData (channel, step, row);
-        stepInfo.setEditing (false);
+        final Integer changes = this.pendingChanges.remove (Integer.valueOf (this.getChangeKey (channel, step, row)));
+        if (changes != null)
+            this.sendClipData (channel, step, row, changes.intValue ());
+        store.setEditing (channel, step, row, false);
     }
 
 
-    private void delayedUpdate (final int channel, final int step, final int row)
+    /** {@inheritDoc} */
+    @Override
+    public void startStepEdits ()
+    {
+        this.transactionDepth++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void commitStepEdits ()
+    {
+        if (this.transactionDepth > 0)
+            this.transactionDepth--;
+    }
+
+
+    /**
+     * Send the collected step changes to Bitwig. This includes the changes of committed
+     * transactions and of the notes which are currently edited.
+     */
+    public void flush ()
+    {
+        if (this.transactionDepth > 0 || this.pendingChanges.isEmpty ())
+            return;
+
+        for (final Map.Entry<Integer, Integer> entry: this.pendingChanges.entrySet ())
+        {
+            final int key = entry.getKey ().intValue ();
+            final int row = key % this.numRows;
+            final int step = key / this.numRows % this.numSteps;
+            final int channel = key / this.numRows / this.numSteps;
+            this.sendClipData (channel, step, row, entry.getValue ().intValue ());
+        }
+        this.pendingChanges.clear ();
+    }
+
+
+    /**
+     * Send the change of a step property to Bitwig. The change is only collected if a transaction
+     * is running or the note is currently edited.
+     *
+     * @param channel The MIDI channel
+     * @param step The step of the clip
+     * @param row The row of the clip
+     * @param change The changed property, one of the CHANGE_* constants
+     */
+    private void sendChange (final int channel, final int step, final int row, final int change)
     {
-        final IStepInfo stepInfo = this.getStep (channel, step, row);
-        if (!stepInfo.isEditing ())
+        final StepStore store = this.getStepStore ();
+        if (store.getIndex (step, row) < 0)
             return;
-        this.sendClipData (channel, step, row);
-        this.host.scheduleTask ( () -> this.delayedUpdate (channel, step, row), 100);
+
+        if (this.transactionDepth > 0 || store.isEditing (channel, step, row))
+            this.pendingChanges.merge (Integer.valueOf (this.getChangeKey (channel, step, row)), Integer.valueOf (change), (oldChanges, newChange) -> Integer.valueOf (oldChanges.intValue () | newChange.intValue ()));
+        else
+            this.sendClipData (channel, step, row, change);
+    }
+
+
+    private int getChangeKey (final int channel, final int step, final int row)
+    {
+        return (channel * this.numSteps + step) * this.numRows + row;
     }
 
 
@@ -769,22 +905,31 @@ public class CursorClipImpl implements INoteClip
      * @param channel The MIDI channel
      * @param step The step of the clip
      * @param row The row of the clip
+     * @param changes The properties to send, a combination of the CHANGE_* constants
      */
-    private void sendClipData (final int channel, final int step, final int row)
+    private void sendClipData (final int channel, final int step, final int row, final int changes)
     {
         final NoteStep noteInfo = this.getClip ().getStep (channel, step, row);
         if (noteInfo == null)
             return;
 
-        final IStepInfo stepInfo = this.getStep (channel, step, row);
-        noteInfo.setDuration (stepInfo.getDuration ());
-        noteInfo.setVelocity (stepInfo.getVelocity ());
-        noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
-        noteInfo.setPressure (stepInfo.getPressure ());
-        noteInfo.setTimbre (stepInfo.getTimbre ());
-        noteInfo.setPan (stepInfo.getPan ());
-        noteInfo.setTranspose (stepInfo.getTranspose ());
-        noteInfo.setGain (stepInfo.getGain ());
+        final IStepInfo stepInfo = this.getStepStore ().getStepData (channel, step, row);
+        if ((changes & CHANGE_DURATION) != 0)
+            noteInfo.setDuration (stepInfo.getDuration ());
+        if ((changes & CHANGE_VELOCITY) != 0)
+            noteInfo.setVelocity (stepInfo.getVelocity ());
+        if ((changes & CHANGE_RELEASE_VELOCITY) != 0)
+            noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
+        if ((changes & CHANGE_PRESSURE) != 0)
+            noteInfo.setPressure (stepInfo.getPressure ());
+        if ((changes & CHANGE_TIMBRE) != 0)
+            noteInfo.setTimbre (stepInfo.getTimbre ());
+        if ((changes & CHANGE_PAN) != 0)
+            noteInfo.setPan (stepInfo.getPan ());
+        if ((changes & CHANGE_TRANSPOSE) != 0)
+            noteInfo.setTranspose (stepInfo.getTranspose ());
+        if ((changes & CHANGE_GAIN) != 0)
+            noteInfo.setGain (stepInfo.getGain ());
     }
 
 
@@ -795,41 +940,37 @@ public class CursorClipImpl implements INoteClip
      */
     private void handleStepData (final NoteStep noteStep)
     {
-        final StepInfoImpl sinfo = this.getUpdateableStep (noteStep.channel (), noteStep.x (), noteStep.y ());
-        if (!sinfo.isEditing ())
-            sinfo.updateData (noteStep);
+        final int channel = noteStep.channel ();
+        final int step = noteStep.x ();
+        final int row = noteStep.y ();
+        final StepStore store = this.getStepStore ();
+        if (!store.isEditing (channel, step, row))
+        {
+            final int oldState = store.getState (channel, step, row);
+            store.update (channel, step, row, noteStep);
+            final int state = store.getState (channel, step, row);
+            this.occupancy.update (channel, step, row, oldState, state);
+            if (this.isIndexed ())
+                this.noteIndex.update (channel, this.editPage * this.numSteps + step, row, state, noteStep.velocity ());
+        }
+        this.markChanged ();
     }
 
 
     /**
-     * Get the step at the given position. If the position still contains the Empty Step Info object
-     * an updateable one is created.
+     * Is the shared note index available and does it use the same step length as this clip?
      *
-     * @param channel The midi channel
-     * @param step The step
-     * @param row The row
-     * @return The updateable step info
+     * @return True if the note index can be used
      */
-    private StepInfoImpl getUpdateableStep (final int channel, final int step, final int row)
+    private boolean isIndexed ()
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        synchronized (stepInfos)
-        {
-            try
-            {
-                // Lazily create an updateable object and keep it
-                if (stepInfos[channel][step] == null)
-                    stepInfos[channel][step] = new IStepInfo [this.numRows];
-                if (stepInfos[channel][step][row] == null)
-                    stepInfos[channel][step][row] = new StepInfoImpl ();
-                return (StepInfoImpl) stepInfos[channel][step][row];
-            }
-            catch (final ArrayIndexOutOfBoundsException ex)
-            {
-                this.host.errorln (ex.getLocalizedMessage ());
-                return new StepInfoImpl ();
-            }
-        }
+        return this.noteIndex != null && this.noteIndex.getStepLength () == this.stepLength;
+    }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (ChangeCategory.CLIP);
     }
 
 
@@ -845,11 +986,11 @@ public class CursorClipImpl implements INoteClip
 
 
     /**
-     * Get the launcher or arranger step infos. Depending on which is active.
+     * Get the launcher or arranger step store. Depending on which is active.
      *
-     * @return The step infos
+     * @return The step store
      */
-    private IStepInfo [] [] [] getStepInfos ()
+    private StepStore getStepStore ()
     {
         return this.launcherData;
     }
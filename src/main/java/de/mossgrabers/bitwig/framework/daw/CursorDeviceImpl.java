@@ -11,6 +11,8 @@ import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDeviceBank;
 import de.mossgrabers.framework.daw.IDrumPadBank;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ILayerBank;
 import de.mossgrabers.framework.daw.IParameterBank;
@@ -34,6 +36,7 @@ import java.util.Map;
  */
 public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
 {
+    private final ChangeTracker                 changeTracker;
     private final PinnableCursorDevice          cursorDevice;
 
     private String []                           directParameterIds;
@@ -52,6 +55,7 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param cursorDevice The cursor device
      * @param numSends The number of sends
      * @param numParams The number of parameters
@@ -59,10 +63,11 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
      * @param numDeviceLayers The number of layers
      * @param numDrumPadLayers The number of drum pad layers
      */
-    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
     {
         super (cursorDevice, -1);
 
+        this.changeTracker = changeTracker;
         this.cursorDevice = cursorDevice;
 
         final int checkedNumParams = numParams >= 0 ? numParams : 8;
@@ -70,19 +75,21 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
         final int checkedNumDeviceLayers = numDeviceLayers >= 0 ? numDeviceLayers : 8;
         final int checkedNumDrumPadLayers = numDrumPadLayers >= 0 ? numDrumPadLayers : 16;
 
-        this.cursorDevice.isEnabled ().markInterested ();
-        this.cursorDevice.isPlugin ().markInterested ();
-        this.cursorDevice.hasPrevious ().markInterested ();
-        this.cursorDevice.hasNext ().markInterested ();
-        this.cursorDevice.isExpanded ().markInterested ();
-        this.cursorDevice.isRemoteControlsSectionVisible ().markInterested ();
-        this.cursorDevice.isWindowOpen ().markInterested ();
-        this.cursorDevice.isNested ().markInterested ();
-        this.cursorDevice.hasDrumPads ().markInterested ();
-        this.cursorDevice.hasLayers ().markInterested ();
-        this.cursorDevice.hasSlots ().markInterested ();
-        this.cursorDevice.isPinned ().markInterested ();
+        Util.addChangeObserver (this.cursorDevice.isEnabled (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isPlugin (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.hasPrevious (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.hasNext (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isExpanded (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isRemoteControlsSectionVisible (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isWindowOpen (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isNested (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.hasDrumPads (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.hasLayers (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.hasSlots (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.isPinned (), this::markChanged);
         this.cursorDevice.slotNames ().markInterested ();
+        Util.addChangeObserver (this.cursorDevice.exists (), this::markChanged);
+        Util.addChangeObserver (this.cursorDevice.name (), this::markChanged);
 
         this.cursorDevice.addDirectParameterIdObserver (value -> this.directParameterIds = value);
         this.cursorDevice.addDirectParameterNameObserver (1024, (final String id, final String name) -> this.directParameterNames.put (id, name));
@@ -93,7 +100,7 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
             // We use the same number of page entries (numParams) for the page bank, add a specific
             // parameter if there is one controller who wants that differently
             this.parameterPageBank = new ParameterPageBankImpl (remoteControlsPage, numParams);
-            this.parameterBank = new ParameterBankImpl (host, valueChanger, this.parameterPageBank, remoteControlsPage, numParams);
+            this.parameterBank = new ParameterBankImpl (host, valueChanger, changeTracker, this.parameterPageBank, remoteControlsPage, numParams);
         }
         else
         {
@@ -106,10 +113,10 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
         this.deviceBank = new DeviceBankImpl (host, valueChanger, this, siblings, checkedNumDevices);
 
         // Monitor the layers of a container device (if any)
-        this.layerBank = new LayerBankImpl (host, valueChanger, checkedNumDeviceLayers > 0 ? this.cursorDevice.createLayerBank (checkedNumDeviceLayers) : null, this.cursorDevice.createCursorLayer (), numDeviceLayers, numSends, checkedNumDevices);
+        this.layerBank = new LayerBankImpl (host, valueChanger, changeTracker, checkedNumDeviceLayers > 0 ? this.cursorDevice.createLayerBank (checkedNumDeviceLayers) : null, this.cursorDevice.createCursorLayer (), numDeviceLayers, numSends, checkedNumDevices);
 
         // Monitor the drum pad layers of a container device (if any)
-        this.drumPadBank = new DrumPadBankImpl (host, valueChanger, checkedNumDrumPadLayers > 0 ? this.cursorDevice.createDrumPadBank (checkedNumDrumPadLayers) : null, checkedNumDrumPadLayers, numSends, checkedNumDevices);
+        this.drumPadBank = new DrumPadBankImpl (host, valueChanger, changeTracker, checkedNumDrumPadLayers > 0 ? this.cursorDevice.createDrumPadBank (checkedNumDrumPadLayers) : null, checkedNumDrumPadLayers, numSends, checkedNumDevices);
         this.drumPadBank.setIndication (false);
 
         this.cursorDevice.hasDrumPads ().addValueObserver (this::callbackHasDrumPads);
@@ -430,4 +437,10 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
         final Boolean v = Boolean.valueOf (hasDrumPads);
         this.hasDrumPadsObservers.forEach (observer -> observer.update (v));
     }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (ChangeCategory.DEVICE);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IHost;
@@ -24,7 +25,8 @@ import com.bitwig.extension.controller.api.DrumPadBank;
  */
 public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumPad> implements IDrumPadBank
 {
-    private int numDevices;
+    private final ChangeTracker changeTracker;
+    private int                 numDevices;
 
 
     /**
@@ -32,15 +34,17 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param layerBank The layer bank
      * @param numLayers The number of layers in the page of the bank
      * @param numSends The number of sends
      * @param numDevices The number of devices
      */
-    public DrumPadBankImpl (final IHost host, final IValueChanger valueChanger, final DrumPadBank layerBank, final int numLayers, final int numSends, final int numDevices)
+    public DrumPadBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final DrumPadBank layerBank, final int numLayers, final int numSends, final int numDevices)
     {
         super (host, valueChanger, layerBank, numLayers, 0, numSends);
 
+        this.changeTracker = changeTracker;
         this.numDevices = numDevices;
 
         this.initItems ();
@@ -61,7 +65,7 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
         for (int i = 0; i < this.pageSize; i++)
         {
             final DrumPad deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.items.add (new DrumPadImpl (this.host, this.valueChanger, this.changeTracker, deviceLayer, i, this.numSends, this.numDevices));
         }
 
         if (this.bank != null)
@@ -29,6 +29,7 @@ public class EffectTrackBankImpl extends AbstractTrackBankImpl
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param effectTrackBank The effect track bank
      * @param cursorTrack The cursor track assigned to this track bank
      * @param rootGroup The root track
@@ -37,9 +38,9 @@ public class EffectTrackBankImpl extends AbstractTrackBankImpl
      * @param numScenes The number of scenes of a bank page
      * @param audioInstrumentTrackBank The trackbank which monitors the audio and instrument tracks
      */
-    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank effectTrackBank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank)
+    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final TrackBank effectTrackBank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank)
     {
-        super (host, valueChanger, effectTrackBank, cursorTrack, rootGroup, application, numTracks, numScenes, 0);
+        super (host, valueChanger, changeTracker, effectTrackBank, cursorTrack, rootGroup, application, numTracks, numScenes, 0);
 
         this.bank.followCursorTrack (cursorTrack);
         this.audioInstrumentTrackBank = audioInstrumentTrackBank;
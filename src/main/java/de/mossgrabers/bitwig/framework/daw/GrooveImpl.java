@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IGroove;
 import de.mossgrabers.framework.daw.data.IParameter;
 
@@ -29,17 +31,18 @@ public class GrooveImpl implements IGroove
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      */
-    public GrooveImpl (final ControllerHost host, final IValueChanger valueChanger)
+    public GrooveImpl (final ControllerHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker)
     {
         this.groove = host.createGroove ();
 
-        this.parameters[0] = new ParameterImpl (valueChanger, this.groove.getEnabled (), 0);
-        this.parameters[1] = new ParameterImpl (valueChanger, this.groove.getShuffleAmount (), 1);
-        this.parameters[2] = new ParameterImpl (valueChanger, this.groove.getShuffleRate (), 2);
-        this.parameters[3] = new ParameterImpl (valueChanger, this.groove.getAccentAmount (), 3);
-        this.parameters[4] = new ParameterImpl (valueChanger, this.groove.getAccentRate (), 4);
-        this.parameters[5] = new ParameterImpl (valueChanger, this.groove.getAccentPhase (), 5);
+        this.parameters[0] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getEnabled (), 0);
+        this.parameters[1] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getShuffleAmount (), 1);
+        this.parameters[2] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getShuffleRate (), 2);
+        this.parameters[3] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getAccentAmount (), 3);
+        this.parameters[4] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getAccentRate (), 4);
+        this.parameters[5] = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.TRANSPORT, this.groove.getAccentPhase (), 5);
     }
 
 
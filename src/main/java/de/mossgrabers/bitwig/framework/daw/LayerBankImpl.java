@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.LayerImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ILayerBank;
@@ -24,6 +25,7 @@ import com.bitwig.extension.controller.api.DeviceLayerBank;
  */
 public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILayer> implements ILayerBank
 {
+    private final ChangeTracker     changeTracker;
     private final CursorDeviceLayer cursorDeviceLayer;
     private int                     numDevices;
 
@@ -33,16 +35,18 @@ public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILay
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param layerBank The layer bank
      * @param cursorDeviceLayer The cursor device layer
      * @param numLayers The number of layers in the page of the bank
      * @param numSends The number of sends
      * @param numDevices The number of devices
      */
-    public LayerBankImpl (final IHost host, final IValueChanger valueChanger, final DeviceLayerBank layerBank, final CursorDeviceLayer cursorDeviceLayer, final int numLayers, final int numSends, final int numDevices)
+    public LayerBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final DeviceLayerBank layerBank, final CursorDeviceLayer cursorDeviceLayer, final int numLayers, final int numSends, final int numDevices)
     {
         super (host, valueChanger, layerBank, numLayers, 0, numSends);
 
+        this.changeTracker = changeTracker;
         this.cursorDeviceLayer = cursorDeviceLayer;
         this.cursorDeviceLayer.hasPrevious ().markInterested ();
         this.cursorDeviceLayer.hasNext ().markInterested ();
@@ -60,7 +64,7 @@ public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILay
         for (int i = 0; i < this.pageSize; i++)
         {
             final DeviceLayer deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.items.add (new LayerImpl (this.host, this.valueChanger, this.changeTracker, deviceLayer, i, this.numSends, this.numDevices));
         }
     }
 
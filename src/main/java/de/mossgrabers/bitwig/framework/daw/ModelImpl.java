@@ -44,6 +44,7 @@ public class ModelImpl extends AbstractModel
     private final CursorTrack              cursorTrack;
     private final BooleanValue             masterTrackEqualsValue;
     private final Map<Integer, ISceneBank> sceneBanks = new HashMap<> (1);
+    private ClipNoteIndex                  noteIndex;
 
     private Track                          rootTrackGroup;
 
@@ -66,9 +67,9 @@ public class ModelImpl extends AbstractModel
         this.application = new ApplicationImpl (app);
         final Project proj = controllerHost.getProject ();
         this.rootTrackGroup = proj.getRootTrackGroup ();
-        this.project = new ProjectImpl (this.valueChanger, proj, app);
+        this.project = new ProjectImpl (this.valueChanger, this.changeTracker, proj, app);
 
-        this.transport = new TransportImpl (controllerHost, this.valueChanger);
+        this.transport = new TransportImpl (controllerHost, this.valueChanger, this.changeTracker);
         final Arranger bwArranger = controllerHost.createArranger ();
         this.arranger = new ArrangerImpl (bwArranger);
         final int numMarkers = modelSetup.getNumMarkers ();
@@ -76,13 +77,13 @@ public class ModelImpl extends AbstractModel
             this.markerBank = new MarkerBankImpl (this.host, this.valueChanger, bwArranger.createCueMarkerBank (numMarkers), numMarkers, this.transport);
 
         this.mixer = new MixerImpl (controllerHost.createMixer ());
-        this.groove = new GrooveImpl (controllerHost, this.valueChanger);
+        this.groove = new GrooveImpl (controllerHost, this.valueChanger, this.changeTracker);
 
         this.cursorTrack = controllerHost.createCursorTrack ("MyCursorTrackID", "The Cursor Track", 0, 0, true);
         this.cursorTrack.isPinned ().markInterested ();
 
         final MasterTrack master = controllerHost.createMasterTrack (0);
-        this.masterTrack = new MasterTrackImpl (this.host, this.valueChanger, master, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application);
+        this.masterTrack = new MasterTrackImpl (this.host, this.valueChanger, this.changeTracker, master, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application);
 
         final TrackBank tb;
         final int numTracks = this.modelSetup.getNumTracks ();
@@ -99,27 +100,27 @@ public class ModelImpl extends AbstractModel
         else
             tb = this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
 
-        this.trackBank = new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, numSends);
+        this.trackBank = new TrackBankImpl (this.host, this.valueChanger, this.changeTracker, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, numSends);
         final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
-        this.effectTrackBank = new EffectTrackBankImpl (this.host, this.valueChanger, effectTrackBank, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, this.trackBank);
+        this.effectTrackBank = new EffectTrackBankImpl (this.host, this.valueChanger, this.changeTracker, effectTrackBank, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, this.trackBank);
 
         final int numParams = this.modelSetup.getNumParams ();
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
         final int numDrumPadLayers = this.modelSetup.getNumDrumPadLayers ();
         final int numDevicesInBank = this.modelSetup.getNumDevicesInBank ();
-        this.instrumentDevice = new CursorDeviceImpl (this.host, this.valueChanger, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        this.instrumentDevice = new CursorDeviceImpl (this.host, this.valueChanger, this.changeTracker, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
         final PinnableCursorDevice mainCursorDevice = this.cursorTrack.createCursorDevice ("CURSOR_DEVICE", "Cursor device", numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
-        this.cursorDevice = new CursorDeviceImpl (this.host, this.valueChanger, mainCursorDevice, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        this.cursorDevice = new CursorDeviceImpl (this.host, this.valueChanger, this.changeTracker, mainCursorDevice, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
         if (numDrumPadLayers > 0)
         {
             final PinnableCursorDevice drum64CursorDevice = this.cursorTrack.createCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
-            this.drumDevice64 = new CursorDeviceImpl (this.host, this.valueChanger, drum64CursorDevice, 0, 0, -1, 64, 64);
+            this.drumDevice64 = new CursorDeviceImpl (this.host, this.valueChanger, this.changeTracker, drum64CursorDevice, 0, 0, -1, 64, 64);
         }
 
         final int numUserPages = modelSetup.getNumUserPages ();
         final int numUserPageSize = modelSetup.getNumUserPageSize ();
         final UserControlBank userControls = this.controllerHost.createUserControls (numUserPages * numUserPageSize);
-        this.userParameterBank = new UserParameterBankImpl (this.host, this.valueChanger, userControls, numUserPages, numUserPageSize);
+        this.userParameterBank = new UserParameterBankImpl (this.host, this.valueChanger, this.changeTracker, userControls, numUserPages, numUserPageSize);
 
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
@@ -178,7 +179,7 @@ public class ModelImpl extends AbstractModel
         return this.sceneBanks.computeIfAbsent (Integer.valueOf (numScenes), key -> {
             final TrackBank tb = this.controllerHost.createMainTrackBank (1, this.modelSetup.getNumSends (), numScenes);
             tb.followCursorTrack (this.cursorTrack);
-            return new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, 1, numScenes, 0).getSceneBank ();
+            return new TrackBankImpl (this.host, this.valueChanger, this.changeTracker, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, 1, numScenes, 0).getSceneBank ();
         });
     }
 
@@ -187,7 +188,25 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows));
+        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, this.changeTracker, cols, rows, this.getNoteIndex (cols, rows)));
+    }
+
+
+    /**
+     * Get the note index which is shared by all note clips. It is only created if enabled and if
+     * the clip monitors any steps.
+     *
+     * @param cols The number of steps of the clip
+     * @param rows The number of rows of the clip
+     * @return The index or null if the clip has no index
+     */
+    private ClipNoteIndex getNoteIndex (final int cols, final int rows)
+    {
+        if (!this.modelSetup.hasClipNoteIndex () || cols == 0 || rows == 0)
+            return null;
+        if (this.noteIndex == null)
+            this.noteIndex = new ClipNoteIndex (this.controllerHost);
+        return this.noteIndex;
     }
 
 
@@ -229,4 +248,13 @@ public class ModelImpl extends AbstractModel
     {
         this.getNoteClip (0, 0);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        for (final IClip clip: this.cursorClips.values ())
+            ((CursorClipImpl) clip).flush ();
+    }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.AbstractBank;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.IParameterPageBank;
@@ -27,6 +29,7 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
 {
     private final CursorRemoteControlsPage remoteControls;
     private final IValueChanger            valueChanger;
+    private final ChangeTracker            changeTracker;
     private final IParameterPageBank       pageBank;
 
 
@@ -35,23 +38,25 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param pageBank The page bank
      * @param remoteControlsPage The remote controls bank
      * @param numParams The number of parameters in the page of the bank
      */
-    public ParameterBankImpl (final IHost host, final IValueChanger valueChanger, final IParameterPageBank pageBank, final CursorRemoteControlsPage remoteControlsPage, final int numParams)
+    public ParameterBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final IParameterPageBank pageBank, final CursorRemoteControlsPage remoteControlsPage, final int numParams)
     {
         super (host, numParams);
         this.pageBank = pageBank;
 
         this.valueChanger = valueChanger;
+        this.changeTracker = changeTracker;
         this.remoteControls = remoteControlsPage;
 
         this.initItems ();
 
         this.remoteControls.hasPrevious ().markInterested ();
         this.remoteControls.hasNext ().markInterested ();
-        this.remoteControls.selectedPageIndex ().markInterested ();
+        Util.addChangeObserver (this.remoteControls.selectedPageIndex (), () -> changeTracker.markChanged (ChangeCategory.DEVICE));
         this.remoteControls.pageCount ().markInterested ();
     }
 
@@ -61,7 +66,7 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i));
+            this.items.add (new ParameterImpl (this.valueChanger, this.changeTracker, ChangeCategory.DEVICE, this.remoteControls.getParameter (i), i));
     }
 
 
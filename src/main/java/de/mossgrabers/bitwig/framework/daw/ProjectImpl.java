@@ -7,6 +7,8 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IProject;
 import de.mossgrabers.framework.daw.data.IParameter;
 
@@ -32,21 +34,22 @@ public class ProjectImpl implements IProject
      * Constructor.
      *
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param project The project
      * @param application The application
      */
-    public ProjectImpl (final IValueChanger valueChanger, final Project project, final Application application)
+    public ProjectImpl (final IValueChanger valueChanger, final ChangeTracker changeTracker, final Project project, final Application application)
     {
         this.project = project;
         this.application = application;
 
         this.application.projectName ().markInterested ();
 
-        this.project.hasSoloedTracks ().markInterested ();
-        this.project.hasMutedTracks ().markInterested ();
+        Util.addChangeObserver (this.project.hasSoloedTracks (), () -> changeTracker.markChanged (ChangeCategory.MIXER));
+        Util.addChangeObserver (this.project.hasMutedTracks (), () -> changeTracker.markChanged (ChangeCategory.MIXER));
 
-        this.cueVolumeParameter = new ParameterImpl (valueChanger, this.project.cueVolume (), 0);
-        this.cueMixParameter = new ParameterImpl (valueChanger, this.project.cueMix (), 0);
+        this.cueVolumeParameter = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.MIXER, this.project.cueVolume (), 0);
+        this.cueMixParameter = new ParameterImpl (valueChanger, changeTracker, ChangeCategory.MIXER, this.project.cueMix (), 0);
     }
 
 
@@ -5,7 +5,10 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.SceneImpl;
+import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.data.IScene;
@@ -20,18 +23,27 @@ import com.bitwig.extension.controller.api.SceneBank;
  */
 public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implements ISceneBank
 {
+    private final ChangeTracker changeTracker;
+
+
     /**
      * Constructor.
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param sceneBank The scene bank
      * @param numScenes The number of scenes in the page of the bank
      */
-    public SceneBankImpl (final IHost host, final IValueChanger valueChanger, final SceneBank sceneBank, final int numScenes)
+    public SceneBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final SceneBank sceneBank, final int numScenes)
     {
         super (host, valueChanger, sceneBank, numScenes);
+
+        this.changeTracker = changeTracker;
         this.initItems ();
+
+        if (this.bank != null)
+            Util.addChangeObserver (this.bank.scrollPosition (), () -> changeTracker.markChanged (ChangeCategory.SLOTS));
     }
 
 
@@ -48,6 +60,6 @@ public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implement
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SceneImpl (this.bank.getItemAt (i), i));
+            this.items.add (new SceneImpl (this.changeTracker, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.SendImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -20,17 +22,25 @@ import com.bitwig.extension.controller.api.SendBank;
  */
 public class SendBankImpl extends AbstractBankImpl<SendBank, ISend> implements ISendBank
 {
+    private final ChangeTracker  changeTracker;
+    private final ChangeCategory changeCategory;
+
     /**
      * Constructor.
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the changes of the sends
+     * @param changeCategory The category to signal for changes of the sends
      * @param sendBank The send bank
      * @param numSends The number of sends in the page of the bank
      */
-    public SendBankImpl (final IHost host, final IValueChanger valueChanger, final SendBank sendBank, final int numSends)
+    public SendBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final ChangeCategory changeCategory, final SendBank sendBank, final int numSends)
     {
         super (host, valueChanger, sendBank, numSends);
+
+        this.changeTracker = changeTracker;
+        this.changeCategory = changeCategory;
         this.initItems ();
     }
 
@@ -40,6 +50,6 @@ public class SendBankImpl extends AbstractBankImpl<SendBank, ISend> implements I
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SendImpl (this, this.valueChanger, this.bank.getItemAt (i), i));
+            this.items.add (new SendImpl (this, this.valueChanger, this.changeTracker, this.changeCategory, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
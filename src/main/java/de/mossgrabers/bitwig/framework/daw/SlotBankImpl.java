@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.SlotImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -21,7 +22,8 @@ import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
  */
 public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot> implements ISlotBank
 {
-    private final ITrack track;
+    private final ChangeTracker changeTracker;
+    private final ITrack        track;
 
 
     /**
@@ -29,13 +31,15 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the changes of the slots
      * @param track The track, which contains the slot bank
      * @param clipLauncherSlotBank The slot bank
      * @param numSlots The number of slots in the page of the bank
      */
-    public SlotBankImpl (final IHost host, final IValueChanger valueChanger, final ITrack track, final ClipLauncherSlotBank clipLauncherSlotBank, final int numSlots)
+    public SlotBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final ITrack track, final ClipLauncherSlotBank clipLauncherSlotBank, final int numSlots)
     {
         super (host, valueChanger, clipLauncherSlotBank, numSlots);
+        this.changeTracker = changeTracker;
         this.track = track;
         this.initItems ();
     }
@@ -62,6 +66,6 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SlotImpl (this.track, this.bank.getItemAt (i), i));
+            this.items.add (new SlotImpl (this.changeTracker, this.track, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
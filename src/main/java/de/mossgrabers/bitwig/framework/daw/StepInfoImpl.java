@@ -5,37 +5,33 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.daw.IStepInfo;
-import de.mossgrabers.framework.daw.constants.Resolution;
-
-import com.bitwig.extension.controller.api.NoteStep;
 
 
 /**
- * Implementation for the data about a note in a sequencer step.
+ * Implementation for the data about a note in a sequencer step. A flyweight which reads the data
+ * from the step store of the clip.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class StepInfoImpl implements IStepInfo
 {
-    private int     state;
-    private double  duration = Resolution.RES_1_16.getValue ();
-    private double  velocity;
-    private double  releaseVelocity;
-    private double  pressure;
-    private double  timbre;
-    private double  pan;
-    private double  transpose;
-    private double  gain;
-
-    private boolean isEditing;
+    private final StepStore store;
+    private final int       channel;
+    private final int       index;
 
 
     /**
      * Constructor.
+     *
+     * @param store The store which contains the data of the step
+     * @param channel The MIDI channel of the step
+     * @param index The index of the step in the store
      */
-    public StepInfoImpl ()
+    StepInfoImpl (final StepStore store, final int channel, final int index)
     {
-        // Intentionally empty
+        this.store = store;
+        this.channel = channel;
+        this.index = index;
     }
 
 
@@ -43,7 +39,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public int getState ()
     {
-        return this.state;
+        return this.store.getState (this.channel, this.index);
     }
 
 
@@ -51,7 +47,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getDuration ()
     {
-        return this.duration;
+        return this.store.getDuration (this.channel, this.index);
     }
 
 
@@ -59,7 +55,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getVelocity ()
     {
-        return this.velocity;
+        return this.store.getVelocity (this.channel, this.index);
     }
 
 
@@ -67,7 +63,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getReleaseVelocity ()
     {
-        return this.releaseVelocity;
+        return this.store.getReleaseVelocity (this.channel, this.index);
     }
 
 
@@ -75,7 +71,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getPressure ()
     {
-        return this.pressure;
+        return this.store.getPressure (this.channel, this.index);
     }
 
 
@@ -83,7 +79,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getTimbre ()
     {
-        return this.timbre;
+        return this.store.getTimbre (this.channel, this.index);
     }
 
 
@@ -91,7 +87,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getPan ()
     {
-        return this.pan;
+        return this.store.getPan (this.channel, this.index);
     }
 
 
@@ -99,7 +95,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getTranspose ()
     {
-        return this.transpose;
+        return this.store.getTranspose (this.channel, this.index);
     }
 
 
@@ -107,7 +103,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getGain ()
     {
-        return this.gain;
+        return this.store.getGain (this.channel, this.index);
     }
 
 
@@ -115,108 +111,6 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public boolean isEditing ()
     {
-        return this.isEditing;
-    }
-
-
-    /**
-     * Set that the note is currently edited.
-     *
-     * @param isEditing True if editing is happening
-     */
-    public void setEditing (final boolean isEditing)
-    {
-        this.isEditing = isEditing;
-    }
-
-
-    /**
-     * Set the state.
-     *
-     * @param state The state, 0: not set, 1: note continues playing, 2: start of note, see the
-     *            defined constants
-     */
-    public void setState (final int state)
-    {
-        this.state = state;
-    }
-
-
-    /**
-     * Set the given state and update all note data from the Bitwig StepInfo.
-     *
-     * @param stepInfo The step info
-     */
-    public void updateData (final NoteStep stepInfo)
-    {
-        switch (stepInfo.state ())
-        {
-            case NoteOn:
-                this.state = IStepInfo.NOTE_START;
-                break;
-            case NoteSustain:
-                this.state = IStepInfo.NOTE_CONTINUE;
-                break;
-            case Empty:
-                this.state = IStepInfo.NOTE_OFF;
-                break;
-        }
-
-        this.duration = stepInfo.duration ();
-        this.velocity = stepInfo.velocity ();
-        this.releaseVelocity = stepInfo.releaseVelocity ();
-        this.pressure = stepInfo.pressure ();
-        this.timbre = stepInfo.timbre ();
-        this.pan = stepInfo.pan ();
-        this.transpose = stepInfo.transpose ();
-        this.gain = stepInfo.gain ();
-    }
-
-
-    void setDuration (final double duration)
-    {
-        this.duration = duration;
-    }
-
-
-    void setVelocity (final double velocity)
-    {
-        this.velocity = velocity;
-    }
-
-
-    void setReleaseVelocity (final double releaseVelocity)
-    {
-        this.releaseVelocity = releaseVelocity;
-    }
-
-
-    void setPressure (final double pressure)
-    {
-        this.pressure = pressure;
-    }
-
-
-    void setTimbre (final double timbre)
-    {
-        this.timbre = timbre;
-    }
-
-
-    void setPan (final double pan)
-    {
-        this.pan = pan;
-    }
-
-
-    void setTranspose (final double transpose)
-    {
-        this.transpose = transpose;
-    }
-
-
-    void setGain (final double gain)
-    {
-        this.gain = gain;
+        return this.store.isEditing (this.channel, this.index);
     }
 }
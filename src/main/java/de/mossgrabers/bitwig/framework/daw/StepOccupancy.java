@@ -0,0 +1,164 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.IStepInfo;
+
+
+/**
+ * Keeps bitsets of the rows and steps of a clip page which contain notes, one set per MIDI
+ * channel. The bits are derived from note counters which are updated whenever the state of a step
+ * changes, which turns the row and step queries of the clip into bit operations.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepOccupancy
+{
+    private static final int NUM_CHANNELS = 16;
+
+    private final int        numSteps;
+    private final int        numRows;
+
+    private final int [] []  rowNotes;
+    private final int [] []  stepNotes;
+    private final int [] []  stepStarts;
+    private final long [] [] rowBits;
+    private final long [] [] stepBits;
+    private final long [] [] stepStartBits;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps of the clip page
+     * @param numRows The number of note rows of the clip page
+     */
+    public StepOccupancy (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+
+        this.rowNotes = new int [NUM_CHANNELS] [numRows];
+        this.stepNotes = new int [NUM_CHANNELS] [numSteps];
+        this.stepStarts = new int [NUM_CHANNELS] [numSteps];
+        this.rowBits = new long [NUM_CHANNELS] [getNumWords (numRows)];
+        this.stepBits = new long [NUM_CHANNELS] [getNumWords (numSteps)];
+        this.stepStartBits = new long [NUM_CHANNELS] [getNumWords (numSteps)];
+    }
+
+
+    /**
+     * Update the occupancy with the new state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param oldState The previous state of the step
+     * @param newState The new state of the step
+     */
+    public void update (final int channel, final int step, final int row, final int oldState, final int newState)
+    {
+        if (oldState == newState || channel < 0 || channel >= NUM_CHANNELS || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        final int delta = (newState > 0 ? 1 : 0) - (oldState > 0 ? 1 : 0);
+        if (delta != 0)
+        {
+            setBit (this.rowBits[channel], row, (this.rowNotes[channel][row] += delta) > 0);
+            setBit (this.stepBits[channel], step, (this.stepNotes[channel][step] += delta) > 0);
+        }
+
+        final int startDelta = (newState == IStepInfo.NOTE_START ? 1 : 0) - (oldState == IStepInfo.NOTE_START ? 1 : 0);
+        if (startDelta != 0)
+            setBit (this.stepStartBits[channel], step, (this.stepStarts[channel][step] += startDelta) > 0);
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @return True if it contains at least one note
+     */
+    public boolean hasRowData (final int channel, final int row)
+    {
+        return isBitSet (this.rowBits[channel], row);
+    }
+
+
+    /**
+     * Get the combined state of all notes at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one
+     *         note continues playing, otherwise NOTE_OFF
+     */
+    public int getStepState (final int channel, final int step)
+    {
+        if (isBitSet (this.stepStartBits[channel], step))
+            return IStepInfo.NOTE_START;
+        return isBitSet (this.stepBits[channel], step) ? IStepInfo.NOTE_CONTINUE : IStepInfo.NOTE_OFF;
+    }
+
+
+    /**
+     * Get the lowest row which contains data.
+     *
+     * @param channel The MIDI channel
+     * @return The lowest row or -1 if all rows are empty
+     */
+    public int getLowerRowWithData (final int channel)
+    {
+        final long [] bits = this.rowBits[channel];
+        for (int i = 0; i < bits.length; i++)
+        {
+            if (bits[i] != 0)
+                return i * Long.SIZE + Long.numberOfTrailingZeros (bits[i]);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the highest row which contains data.
+     *
+     * @param channel The MIDI channel
+     * @return The highest row or -1 if all rows are empty
+     */
+    public int getUpperRowWithData (final int channel)
+    {
+        final long [] bits = this.rowBits[channel];
+        for (int i = bits.length - 1; i >= 0; i--)
+        {
+            if (bits[i] != 0)
+                return i * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros (bits[i]);
+        }
+        return -1;
+    }
+
+
+    private static int getNumWords (final int numBits)
+    {
+        return (numBits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+
+    private static boolean isBitSet (final long [] bits, final int index)
+    {
+        return (bits[index / Long.SIZE] & 1L << index % Long.SIZE) != 0;
+    }
+
+
+    private static void setBit (final long [] bits, final int index, final boolean isSet)
+    {
+        final long mask = 1L << index % Long.SIZE;
+        if (isSet)
+            bits[index / Long.SIZE] |= mask;
+        else
+            bits[index / Long.SIZE] &= ~mask;
+    }
+}
@@ -0,0 +1,500 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.constants.Resolution;
+import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
+
+import com.bitwig.extension.controller.api.NoteStep;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the data of all steps of a clip page in flat primitive arrays, one set of arrays for each
+ * MIDI channel. The arrays of a channel are created when the first step of the channel is written.
+ * The state and the editing flag of a step are packed into a single byte.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepStore
+{
+    private static final int  NUM_CHANNELS = 16;
+    private static final int  STATE_MASK   = 0x03;
+    private static final int  EDITING_FLAG = 0x04;
+
+    private final int         numSteps;
+    private final int         numRows;
+
+    private final byte [] []  states;
+    private final float [] [] durations;
+    private final float [] [] velocities;
+    private final float [] [] releaseVelocities;
+    private final float [] [] pressures;
+    private final float [] [] timbres;
+    private final float [] [] pans;
+    private final float [] [] transposes;
+    private final float [] [] gains;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps of the clip page
+     * @param numRows The number of note rows of the clip page
+     */
+    public StepStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+
+        this.states = new byte [NUM_CHANNELS] [];
+        this.durations = new float [NUM_CHANNELS] [];
+        this.velocities = new float [NUM_CHANNELS] [];
+        this.releaseVelocities = new float [NUM_CHANNELS] [];
+        this.pressures = new float [NUM_CHANNELS] [];
+        this.timbres = new float [NUM_CHANNELS] [];
+        this.pans = new float [NUM_CHANNELS] [];
+        this.transposes = new float [NUM_CHANNELS] [];
+        this.gains = new float [NUM_CHANNELS] [];
+    }
+
+
+    /**
+     * Get the info of a step. The returned object is a view on the data of the step and reflects
+     * later changes.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The step info, the empty step info if the step is not set and not edited
+     */
+    public IStepInfo getStep (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        if (index < 0 || this.states[channel] == null || this.states[channel][index] == 0)
+            return EmptyStepInfo.INSTANCE;
+        return new StepInfoImpl (this, channel, index);
+    }
+
+
+    /**
+     * Get the data of a step independent of its state.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The step info, the empty step info if no step of the channel was written yet
+     */
+    public IStepInfo getStepData (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        if (index < 0 || this.states[channel] == null)
+            return EmptyStepInfo.INSTANCE;
+        return new StepInfoImpl (this, channel, index);
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The state, see the constants in IStepInfo
+     */
+    public int getState (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        return index < 0 ? IStepInfo.NOTE_OFF : this.getState (channel, index);
+    }
+
+
+    /**
+     * Is the step currently edited?
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return True if edited
+     */
+    public boolean isEditing (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        return index >= 0 && this.isEditing (channel, index);
+    }
+
+
+    /**
+     * Set that the step is currently edited.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param isEditing True if editing is happening
+     */
+    public void setEditing (final int channel, final int step, final int row, final boolean isEditing)
+    {
+        final int index = this.getIndex (step, row);
+        if (index < 0 || !this.allocate (channel))
+            return;
+        final byte [] channelStates = this.states[channel];
+        channelStates[index] = (byte) (isEditing ? channelStates[index] | EDITING_FLAG : channelStates[index] & ~EDITING_FLAG);
+    }
+
+
+    /**
+     * Set the duration of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param duration The length of the note
+     */
+    public void setDuration (final int channel, final int step, final int row, final double duration)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.durations[channel][index] = (float) duration;
+    }
+
+
+    /**
+     * Set the velocity of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param velocity The velocity
+     */
+    public void setVelocity (final int channel, final int step, final int row, final double velocity)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.velocities[channel][index] = (float) velocity;
+    }
+
+
+    /**
+     * Set the releaseVelocity of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param releaseVelocity The release velocity
+     */
+    public void setReleaseVelocity (final int channel, final int step, final int row, final double releaseVelocity)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.releaseVelocities[channel][index] = (float) releaseVelocity;
+    }
+
+
+    /**
+     * Set the pressure of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param pressure The pressure
+     */
+    public void setPressure (final int channel, final int step, final int row, final double pressure)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.pressures[channel][index] = (float) pressure;
+    }
+
+
+    /**
+     * Set the timbre of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param timbre The timbre
+     */
+    public void setTimbre (final int channel, final int step, final int row, final double timbre)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.timbres[channel][index] = (float) timbre;
+    }
+
+
+    /**
+     * Set the panorama of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param pan The panorama
+     */
+    public void setPan (final int channel, final int step, final int row, final double pan)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.pans[channel][index] = (float) pan;
+    }
+
+
+    /**
+     * Set the transpose of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param transpose The transposition
+     */
+    public void setTranspose (final int channel, final int step, final int row, final double transpose)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.transposes[channel][index] = (float) transpose;
+    }
+
+
+    /**
+     * Set the gain of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param gain The gain
+     */
+    public void setGain (final int channel, final int step, final int row, final double gain)
+    {
+        final int index = this.getIndex (step, row);
+        if (index >= 0 && this.allocate (channel))
+            this.gains[channel][index] = (float) gain;
+    }
+
+
+    /**
+     * Update the state and all note data of a step from the Bitwig note step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param noteStep The Bitwig note step
+     */
+    public void update (final int channel, final int step, final int row, final NoteStep noteStep)
+    {
+        final int index = this.getIndex (step, row);
+        if (index < 0 || !this.allocate (channel))
+            return;
+
+        final int state;
+        switch (noteStep.state ())
+        {
+            case NoteOn:
+                state = IStepInfo.NOTE_START;
+                break;
+            case NoteSustain:
+                state = IStepInfo.NOTE_CONTINUE;
+                break;
+            default:
+                state = IStepInfo.NOTE_OFF;
+                break;
+        }
+
+        final byte [] channelStates = this.states[channel];
+        channelStates[index] = (byte) (channelStates[index] & EDITING_FLAG | state);
+        this.durations[channel][index] = (float) noteStep.duration ();
+        this.velocities[channel][index] = (float) noteStep.velocity ();
+        this.releaseVelocities[channel][index] = (float) noteStep.releaseVelocity ();
+        this.pressures[channel][index] = (float) noteStep.pressure ();
+        this.timbres[channel][index] = (float) noteStep.timbre ();
+        this.pans[channel][index] = (float) noteStep.pan ();
+        this.transposes[channel][index] = (float) noteStep.transpose ();
+        this.gains[channel][index] = (float) noteStep.gain ();
+    }
+
+
+    /**
+     * Get the index of a step in the arrays of a channel.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The index or -1 if the step or row is out of range
+     */
+    int getIndex (final int step, final int row)
+    {
+        if (step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return -1;
+        return step * this.numRows + row;
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The state, see the constants in IStepInfo
+     */
+    int getState (final int channel, final int index)
+    {
+        final byte [] channelStates = this.states[channel];
+        return channelStates == null ? IStepInfo.NOTE_OFF : channelStates[index] & STATE_MASK;
+    }
+
+
+    /**
+     * Is the step currently edited?
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return True if edited
+     */
+    boolean isEditing (final int channel, final int index)
+    {
+        final byte [] channelStates = this.states[channel];
+        return channelStates != null && (channelStates[index] & EDITING_FLAG) != 0;
+    }
+
+
+    /**
+     * Get the duration of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The length of the note
+     */
+    double getDuration (final int channel, final int index)
+    {
+        final float [] values = this.durations[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the velocity of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The velocity
+     */
+    double getVelocity (final int channel, final int index)
+    {
+        final float [] values = this.velocities[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the releaseVelocity of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The release velocity
+     */
+    double getReleaseVelocity (final int channel, final int index)
+    {
+        final float [] values = this.releaseVelocities[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the pressure of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The pressure
+     */
+    double getPressure (final int channel, final int index)
+    {
+        final float [] values = this.pressures[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the timbre of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The timbre
+     */
+    double getTimbre (final int channel, final int index)
+    {
+        final float [] values = this.timbres[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the panorama of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The panorama
+     */
+    double getPan (final int channel, final int index)
+    {
+        final float [] values = this.pans[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the transpose of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The transposition
+     */
+    double getTranspose (final int channel, final int index)
+    {
+        final float [] values = this.transposes[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Get the gain of a step.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see {@link #getIndex(int, int)}
+     * @return The gain
+     */
+    double getGain (final int channel, final int index)
+    {
+        final float [] values = this.gains[channel];
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Create the arrays of a channel if not already present.
+     *
+     * @param channel The MIDI channel
+     * @return False if the channel is out of range
+     */
+    private boolean allocate (final int channel)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS)
+            return false;
+        if (this.states[channel] != null)
+            return true;
+
+        final int size = this.numSteps * this.numRows;
+        this.durations[channel] = new float [size];
+        this.velocities[channel] = new float [size];
+        this.releaseVelocities[channel] = new float [size];
+        this.pressures[channel] = new float [size];
+        this.timbres[channel] = new float [size];
+        this.pans[channel] = new float [size];
+        this.transposes[channel] = new float [size];
+        this.gains[channel] = new float [size];
+        Arrays.fill (this.durations[channel], (float) Resolution.RES_1_16.getValue ());
+        // Publish the states last, they signal that the channel is present
+        this.states[channel] = new byte [size];
+        return true;
+    }
+}
@@ -26,6 +26,7 @@ public class TrackBankImpl extends AbstractTrackBankImpl
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param bank The Bitwig track bank
      * @param cursorTrack The cursor track
      * @param rootGroup The root track
@@ -34,9 +35,9 @@ public class TrackBankImpl extends AbstractTrackBankImpl
      * @param numScenes The number of scenes in a bank page
      * @param numSends The number of sends in a bank page
      */
-    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final int numSends)
+    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application, final int numTracks, final int numScenes, final int numSends)
     {
-        super (host, valueChanger, bank, cursorTrack, rootGroup, application, numTracks, numScenes, numSends);
+        super (host, valueChanger, changeTracker, bank, cursorTrack, rootGroup, application, numTracks, numScenes, numSends);
     }
 
 
@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
@@ -33,11 +35,12 @@ public class TransportImpl implements ITransport
         AutomationMode.WRITE
     };
 
-    private ControllerHost                 host;
-    private IValueChanger                  valueChanger;
-    private Transport                      transport;
+    private ControllerHost host;
+    private IValueChanger  valueChanger;
+    private ChangeTracker  changeTracker;
+    private Transport      transport;
 
-    private double                         tempo;
+    private double         tempo;
 
 
     /**
@@ -45,27 +48,29 @@ public class TransportImpl implements ITransport
      *
      * @param host The host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      */
-    public TransportImpl (final ControllerHost host, final IValueChanger valueChanger)
+    public TransportImpl (final ControllerHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker)
     {
         this.host = host;
         this.valueChanger = valueChanger;
+        this.changeTracker = changeTracker;
         this.transport = host.createTransport ();
 
-        this.transport.isPlaying ().markInterested ();
-        this.transport.isArrangerRecordEnabled ().markInterested ();
-        this.transport.isArrangerOverdubEnabled ().markInterested ();
-        this.transport.isClipLauncherAutomationWriteEnabled ().markInterested ();
-        this.transport.isClipLauncherOverdubEnabled ().markInterested ();
-        this.transport.isArrangerAutomationWriteEnabled ().markInterested ();
-        this.transport.automationWriteMode ().markInterested ();
-        this.transport.isArrangerLoopEnabled ().markInterested ();
-        this.transport.isPunchInEnabled ().markInterested ();
-        this.transport.isPunchOutEnabled ().markInterested ();
-        this.transport.isMetronomeEnabled ().markInterested ();
-        this.transport.isMetronomeTickPlaybackEnabled ().markInterested ();
-        this.transport.isMetronomeAudibleDuringPreRoll ().markInterested ();
-        this.transport.preRoll ().markInterested ();
+        Util.addChangeObserver (this.transport.isPlaying (), this::markChanged);
+        Util.addChangeObserver (this.transport.isArrangerRecordEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isArrangerOverdubEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isClipLauncherAutomationWriteEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isClipLauncherOverdubEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isArrangerAutomationWriteEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.automationWriteMode (), this::markChanged);
+        Util.addChangeObserver (this.transport.isArrangerLoopEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isPunchInEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isPunchOutEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isMetronomeEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isMetronomeTickPlaybackEnabled (), this::markChanged);
+        Util.addChangeObserver (this.transport.isMetronomeAudibleDuringPreRoll (), this::markChanged);
+        Util.addChangeObserver (this.transport.preRoll (), this::markChanged);
         this.transport.tempo ().value ().addRawValueObserver (this::handleTempo);
         this.transport.getPosition ().markInterested ();
         this.transport.crossfade ().value ().markInterested ();
@@ -682,5 +687,12 @@ public class TransportImpl implements ITransport
     private void handleTempo (final double value)
     {
         this.tempo = Math.min (TransportConstants.MAX_TEMPO, Math.max (TransportConstants.MIN_TEMPO, value));
+        this.markChanged ();
+    }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (ChangeCategory.TRANSPORT);
     }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.data.IItem;
@@ -40,11 +42,12 @@ public class UserParameterBankImpl implements IParameterBank
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the model changes
      * @param userControlBank The user controls bank
      * @param numPages The number of user parameter pages
      * @param numParamsPerPage The number of parameters per page
      */
-    public UserParameterBankImpl (final IHost host, final IValueChanger valueChanger, final UserControlBank userControlBank, final int numPages, final int numParamsPerPage)
+    public UserParameterBankImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final UserControlBank userControlBank, final int numPages, final int numParamsPerPage)
     {
         this.valueChanger = valueChanger;
         this.userControlBank = userControlBank;
@@ -54,7 +57,7 @@ public class UserParameterBankImpl implements IParameterBank
 
         this.items = new ArrayList<> (this.itemCount);
         for (int i = 0; i < this.itemCount; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.userControlBank.getControl (i), i));
+            this.items.add (new ParameterImpl (this.valueChanger, changeTracker, ChangeCategory.DEVICE, this.userControlBank.getControl (i), i));
     }
 
 
@@ -7,6 +7,8 @@ package de.mossgrabers.bitwig.framework.daw.data;
 import de.mossgrabers.bitwig.framework.daw.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.IChannel;
@@ -15,7 +17,6 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.Channel;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 
 /**
@@ -25,15 +26,18 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements IChannel
 {
-    protected final IValueChanger valueChanger;
+    protected final IValueChanger  valueChanger;
+    protected final ChangeTracker  changeTracker;
+    protected final ChangeCategory changeCategory;
 
-    private static final int      MAX_RESOLUTION = 16384;
+    private static final int       MAX_RESOLUTION = 16384;
 
-    private int                   vuLeft;
-    private int                   vuRight;
-    private IParameter            volumeParameter;
-    private IParameter            panParameter;
-    private ISendBank             sendBank;
+    private int                    vuLeft;
+    private int                    vuRight;
+    private IParameter             volumeParameter;
+    private IParameter             panParameter;
+    private ISendBank              sendBank;
+    private ColorEx                color          = ColorEx.BLACK;
 
 
     /**
@@ -41,34 +45,60 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
      *
      * @param host The DAW host
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the changes of the channel data
+     * @param changeCategory The category to signal for changes of the channel data
      * @param channel The channel
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      */
-    public ChannelImpl (final IHost host, final IValueChanger valueChanger, final Channel channel, final int index, final int numSends)
+    public ChannelImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final ChangeCategory changeCategory, final Channel channel, final int index, final int numSends)
     {
         super (index, channel);
 
         this.deviceChain = channel;
         this.valueChanger = valueChanger;
+        this.changeTracker = changeTracker;
+        this.changeCategory = changeCategory;
 
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        Util.addChangeObserver (channel.exists (), this::markChanged);
+        Util.addChangeObserver (channel.name (), this::markChanged);
+        Util.addChangeObserver (channel.isActivated (), this::markChanged);
+        Util.addChangeObserver (channel.mute (), this::markChanged);
+        Util.addChangeObserver (channel.solo (), this::markChanged);
+        channel.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.intern (red, green, blue);
+            this.markChanged ();
+        });
 
-        this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), 0);
-        this.panParameter = new ParameterImpl (valueChanger, channel.pan (), 0);
+        this.volumeParameter = new ParameterImpl (valueChanger, changeTracker, changeCategory, channel.volume (), 0);
+        this.panParameter = new ParameterImpl (valueChanger, changeTracker, changeCategory, channel.pan (), 0);
 
         channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
         channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
 
-        this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
+        this.sendBank = new SendBankImpl (host, valueChanger, changeTracker, changeCategory, numSends == 0 ? null : channel.sendBank (), numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        super.setSelected (isSelected);
+        this.markChanged ();
+    }
+
+
+    /**
+     * Signal that some data of the channel has changed. VU meter updates are not signalled, since
+     * they change continuously during playback.
+     */
+    protected void markChanged ()
+    {
+        this.changeTracker.markChanged (this.changeCategory);
     }
 
 
@@ -326,8 +356,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -410,7 +439,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public void addColorObserver (final IValueObserver<ColorEx> observer)
     {
-        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (new ColorEx (red, green, blue)));
+        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (ColorEx.intern (red, green, blue)));
     }
 
 
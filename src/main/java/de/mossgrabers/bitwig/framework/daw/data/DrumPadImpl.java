@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 
@@ -26,14 +27,15 @@ public class DrumPadImpl extends LayerImpl implements IDrumPad
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker Tracks the changes of the drum pad data
      * @param drumPad The drum pad
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      * @param numDevices The number of devices of a bank
      */
-    public DrumPadImpl (final IHost host, final IValueChanger valueChanger, final DrumPad drumPad, final int index, final int numSends, final int numDevices)
+    public DrumPadImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final DrumPad drumPad, final int index, final int numSends, final int numDevices)
     {
-        super (host, valueChanger, drumPad, index, numSends, numDevices);
+        super (host, valueChanger, changeTracker, drumPad, index, numSends, numDevices);
 
         this.drumPad = drumPad;
     }
@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.ILayer;
 import de.mossgrabers.framework.daw.resource.ChannelType;
@@ -29,20 +31,21 @@ public class LayerImpl extends ChannelImpl implements ILayer
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker Tracks the changes of the layer data
      * @param layer The layer
      * @param index The index of the channel in the page
      * @param numSends The number of sends of a bank
      * @param numDevices The number of devices of a bank
      */
-    public LayerImpl (final IHost host, final IValueChanger valueChanger, final Channel layer, final int index, final int numSends, final int numDevices)
+    public LayerImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final Channel layer, final int index, final int numSends, final int numDevices)
     {
-        super (host, valueChanger, layer, index, numSends);
+        super (host, valueChanger, changeTracker, ChangeCategory.DEVICE, layer, index, numSends);
 
         layer.addIsSelectedInEditorObserver (this::setSelected);
 
         final DeviceBank deviceBank = layer.createDeviceBank (numDevices);
         this.firstItem = deviceBank.getItemAt (0);
-        this.firstItem.exists ().markInterested ();
+        Util.addChangeObserver (this.firstItem.exists (), this::markChanged);
     }
 
 
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.bitwig.framework.daw.ApplicationImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
@@ -34,14 +35,15 @@ public class MasterTrackImpl extends TrackImpl implements IMasterTrack
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker Tracks the changes of the track data
      * @param application The application
      * @param master The master track
      * @param cursorTrack The cursor track
      * @param rootGroup The root track
      */
-    public MasterTrackImpl (final IHost host, final IValueChanger valueChanger, final MasterTrack master, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application)
+    public MasterTrackImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final MasterTrack master, final CursorTrack cursorTrack, final Track rootGroup, final ApplicationImpl application)
     {
-        super (host, valueChanger, application, cursorTrack, rootGroup, master, -1, 0, 0);
+        super (host, valueChanger, changeTracker, application, cursorTrack, rootGroup, master, -1, 0, 0);
 
         this.track.addIsSelectedInEditorObserver (this::handleIsSelected);
     }
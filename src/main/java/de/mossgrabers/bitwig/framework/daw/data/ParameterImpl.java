@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.observer.IValueObserver;
@@ -21,33 +23,45 @@ import com.bitwig.extension.controller.api.StringValue;
  */
 public class ParameterImpl extends AbstractItemImpl implements IParameter
 {
-    private final IValueChanger valueChanger;
-    private final Parameter     parameter;
-    private StringValue         targetName;
-    private StringValue         targetDisplayedValue;
-    private DoubleValue         targetValue;
-    private DoubleValue         targetModulatedValue;
+    private final IValueChanger  valueChanger;
+    private final ChangeTracker  changeTracker;
+    private final ChangeCategory changeCategory;
+    private final Parameter      parameter;
+    private StringValue          targetName;
+    private StringValue          targetDisplayedValue;
+    private DoubleValue          targetValue;
+    private DoubleValue          targetModulatedValue;
 
 
     /**
      * Constructor.
      *
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the changes of the parameter
+     * @param changeCategory The category to signal for changes of the parameter
      * @param parameter The parameter
      * @param index The index of the item in the page
      */
-    public ParameterImpl (final IValueChanger valueChanger, final Parameter parameter, final int index)
+    public ParameterImpl (final IValueChanger valueChanger, final ChangeTracker changeTracker, final ChangeCategory changeCategory, final Parameter parameter, final int index)
     {
         super (index);
 
         this.valueChanger = valueChanger;
+        this.changeTracker = changeTracker;
+        this.changeCategory = changeCategory;
         this.parameter = parameter;
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.displayedValue ().markInterested ();
-        parameter.value ().markInterested ();
-        parameter.modulatedValue ().markInterested ();
+        Util.addChangeObserver (parameter.exists (), this::markChanged);
+        Util.addChangeObserver (parameter.name (), this::markChanged);
+        Util.addChangeObserver (parameter.displayedValue (), this::markChanged);
+        Util.addChangeObserver (parameter.value (), this::markChanged);
+        Util.addChangeObserver (parameter.modulatedValue (), this::markChanged);
+    }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (this.changeCategory);
     }
 
 
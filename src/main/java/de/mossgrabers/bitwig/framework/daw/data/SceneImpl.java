@@ -5,12 +5,13 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.Scene;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 
 /**
@@ -20,25 +21,32 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
-    private final Scene scene;
+    private final ChangeTracker changeTracker;
+    private final Scene         scene;
+    private ColorEx             color = ColorEx.BLACK;
 
 
     /**
      * Constructor.
      *
+     * @param changeTracker Tracks the changes of the scene
      * @param scene The scene
      * @param index The index of the scene
      */
-    public SceneImpl (final Scene scene, final int index)
+    public SceneImpl (final ChangeTracker changeTracker, final Scene scene, final int index)
     {
         super (index);
 
+        this.changeTracker = changeTracker;
         this.scene = scene;
 
-        scene.exists ().markInterested ();
-        scene.name ().markInterested ();
-        scene.sceneIndex ().markInterested ();
-        scene.color ().markInterested ();
+        Util.addChangeObserver (scene.exists (), this::markChanged);
+        Util.addChangeObserver (scene.name (), this::markChanged);
+        Util.addChangeObserver (scene.sceneIndex (), this::markChanged);
+        scene.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.intern (red, green, blue);
+            this.markChanged ();
+        });
         scene.addIsSelectedInEditorObserver (this::setSelected);
     }
 
@@ -54,6 +62,15 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        super.setSelected (isSelected);
+        this.markChanged ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
@@ -98,8 +115,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.scene.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -141,4 +157,10 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     {
         this.scene.launch ();
     }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (ChangeCategory.SLOTS);
+    }
 }
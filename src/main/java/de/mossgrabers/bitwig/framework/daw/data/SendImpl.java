@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.ISend;
 
@@ -26,12 +28,14 @@ public class SendImpl extends ParameterImpl implements ISend
      *
      * @param sendBank The bank in which this send is located, for getting the position
      * @param valueChanger The value changer
+     * @param changeTracker Tracks the changes of the send
+     * @param changeCategory The category to signal for changes of the send
      * @param send The send
      * @param index The index of the send
      */
-    public SendImpl (final ISendBank sendBank, final IValueChanger valueChanger, final Send send, final int index)
+    public SendImpl (final ISendBank sendBank, final IValueChanger valueChanger, final ChangeTracker changeTracker, final ChangeCategory changeCategory, final Send send, final int index)
     {
-        super (valueChanger, send, index);
+        super (valueChanger, changeTracker, changeCategory, send, index);
 
         this.sendBank = sendBank;
     }
@@ -5,13 +5,14 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 
 /**
@@ -21,37 +22,50 @@ import com.bitwig.extension.controller.api.ColorValue;
  */
 public class SlotImpl extends AbstractItemImpl implements ISlot
 {
+    private final ChangeTracker    changeTracker;
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color = ColorEx.BLACK;
 
 
     /**
      * Constructor.
      *
+     * @param changeTracker Tracks the changes of the slot
      * @param track The track which contains the slot
      * @param slot The slot
      * @param index The index of the slot
      */
-    public SlotImpl (final ITrack track, final ClipLauncherSlot slot, final int index)
+    public SlotImpl (final ChangeTracker changeTracker, final ITrack track, final ClipLauncherSlot slot, final int index)
     {
         super (index);
 
+        this.changeTracker = changeTracker;
         this.track = track;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.sceneIndex ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        Util.addChangeObserver (slot.exists (), this::markChanged);
+        Util.addChangeObserver (slot.sceneIndex (), this::markChanged);
+        Util.addChangeObserver (slot.name (), this::markChanged);
+        Util.addChangeObserver (slot.hasContent (), this::markChanged);
+        slot.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.intern (red, green, blue);
+            this.markChanged ();
+        });
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        Util.addChangeObserver (slot.isPlaying (), this::markChanged);
+        Util.addChangeObserver (slot.isPlaybackQueued (), this::markChanged);
+        Util.addChangeObserver (slot.isRecording (), this::markChanged);
+        Util.addChangeObserver (slot.isRecordingQueued (), this::markChanged);
+        Util.addChangeObserver (slot.isStopQueued (), this::markChanged);
+        Util.addChangeObserver (slot.isSelected (), this::markChanged);
+    }
+
+
+    private void markChanged ()
+    {
+        this.changeTracker.markChanged (ChangeCategory.SLOTS);
     }
 
 
@@ -176,9 +190,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         // TODO API extension required - https://github.com/teotigraphix/Framework4Bitwig/issues/218
         if (this.track.isGroup ())
             return this.track.getColor ();
-
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
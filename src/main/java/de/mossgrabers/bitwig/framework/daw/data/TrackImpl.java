@@ -7,6 +7,8 @@ package de.mossgrabers.bitwig.framework.daw.data;
 import de.mossgrabers.bitwig.framework.daw.ApplicationImpl;
 import de.mossgrabers.bitwig.framework.daw.SlotBankImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
@@ -59,6 +61,7 @@ public class TrackImpl extends ChannelImpl implements ITrack
      *
      * @param host The DAW host
      * @param valueChanger The valueChanger
+     * @param changeTracker Tracks the changes of the track data
      * @param application The application
      * @param cursorTrack The cursor track of the bank to which this track belongs, required for
      *            group navigation
@@ -68,31 +71,31 @@ public class TrackImpl extends ChannelImpl implements ITrack
      * @param numSends The number of sends of a bank
      * @param numScenes The number of scenes of a bank
      */
-    public TrackImpl (final IHost host, final IValueChanger valueChanger, final ApplicationImpl application, final CursorTrack cursorTrack, final Track rootGroup, final Track track, final int index, final int numSends, final int numScenes)
+    public TrackImpl (final IHost host, final IValueChanger valueChanger, final ChangeTracker changeTracker, final ApplicationImpl application, final CursorTrack cursorTrack, final Track rootGroup, final Track track, final int index, final int numSends, final int numScenes)
     {
-        super (host, valueChanger, track, index, numSends);
+        super (host, valueChanger, changeTracker, ChangeCategory.MIXER, track, index, numSends);
 
         this.host = host;
         this.cursorTrack = cursorTrack;
         this.track = track;
         this.application = application;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
+        Util.addChangeObserver (track.trackType (), this::markChanged);
+        Util.addChangeObserver (track.position (), this::markChanged);
+        Util.addChangeObserver (track.isGroup (), this::markChanged);
+        Util.addChangeObserver (track.arm (), this::markChanged);
+        Util.addChangeObserver (track.monitor (), this::markChanged);
+        Util.addChangeObserver (track.autoMonitor (), this::markChanged);
+        Util.addChangeObserver (track.crossFadeMode (), this::markChanged);
+        Util.addChangeObserver (track.canHoldNoteData (), this::markChanged);
+        Util.addChangeObserver (track.canHoldAudioData (), this::markChanged);
+        Util.addChangeObserver (track.isStopped (), this::markChanged);
         track.playingNotes ().addValueObserver (this::handleNotes);
 
         this.isTopGroup = track.createParentTrack (0, 0).createEqualsValue (rootGroup);
         this.isTopGroup.markInterested ();
 
-        this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
+        this.slotBank = new SlotBankImpl (host, valueChanger, changeTracker, this, track.clipLauncherSlotBank (), numScenes);
 
         Arrays.fill (this.noteCache, NOTE_OFF);
     }
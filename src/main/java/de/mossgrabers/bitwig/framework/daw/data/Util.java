@@ -4,6 +4,11 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import com.bitwig.extension.controller.api.BooleanValue;
+import com.bitwig.extension.controller.api.DoubleValue;
+import com.bitwig.extension.controller.api.EnumValue;
+import com.bitwig.extension.controller.api.IntegerValue;
+import com.bitwig.extension.controller.api.StringValue;
 import com.bitwig.extension.controller.api.Subscribable;
 
 
@@ -36,4 +41,64 @@ public final class Util
         else
             subscribable.unsubscribe ();
     }
+
+
+    /**
+     * Calls the observer whenever the value changes. Also marks the value as interested.
+     *
+     * @param value The value to observe
+     * @param observer The observer to call
+     */
+    public static void addChangeObserver (final BooleanValue value, final Runnable observer)
+    {
+        value.addValueObserver (v -> observer.run ());
+    }
+
+
+    /**
+     * Calls the observer whenever the value changes. Also marks the value as interested.
+     *
+     * @param value The value to observe
+     * @param observer The observer to call
+     */
+    public static void addChangeObserver (final IntegerValue value, final Runnable observer)
+    {
+        value.addValueObserver (v -> observer.run ());
+    }
+
+
+    /**
+     * Calls the observer whenever the value changes. Also marks the value as interested.
+     *
+     * @param value The value to observe
+     * @param observer The observer to call
+     */
+    public static void addChangeObserver (final DoubleValue value, final Runnable observer)
+    {
+        value.addValueObserver (v -> observer.run ());
+    }
+
+
+    /**
+     * Calls the observer whenever the value changes. Also marks the value as interested.
+     *
+     * @param value The value to observe
+     * @param observer The observer to call
+     */
+    public static void addChangeObserver (final StringValue value, final Runnable observer)
+    {
+        value.addValueObserver (v -> observer.run ());
+    }
+
+
+    /**
+     * Calls the observer whenever the value changes. Also marks the value as interested.
+     *
+     * @param value The value to observe
+     * @param observer The observer to call
+     */
+    public static void addChangeObserver (final EnumValue value, final Runnable observer)
+    {
+        value.addValueObserver (v -> observer.run ());
+    }
 }
@@ -68,6 +68,22 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /**
      * Get the Bitwig bitmap.
      *
@@ -8,10 +8,12 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextLayoutCache;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
+import com.bitwig.extension.api.graphics.Image;
 
 
 /**
@@ -21,7 +23,10 @@ import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    /** All displays use the default font, therefore the measured texts can be shared. */
+    private static final TextLayoutCache TEXT_CACHE = new TextLayoutCache ();
+
+    private GraphicsOutput               gc;
 
 
     /**
@@ -170,8 +175,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (text).getWidth ();
+        final double h = this.getTextHeight ("T", fontSize);
+        final double w = this.getTextWidth (text, fontSize);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -212,12 +217,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.getTextHeight ("T", fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (text).getWidth ();
+            final double w = this.getTextWidth (text, fontSize);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -233,7 +238,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
+        this.gc.drawImage (getImage (icon), x, y);
     }
 
 
@@ -242,7 +247,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
     {
         this.setColor (maskColor);
-        this.gc.mask (((ImageImpl) icon).getImage (), x, y);
+        this.gc.mask (getImage (icon), x, y);
         this.gc.fill ();
     }
 
@@ -250,13 +255,19 @@ public class GraphicsContextImpl implements IGraphicsContext
     /** {@inheritDoc} */
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        return TEXT_CACHE.getFontSize (text, maxHeight, maxWidth, minimumFontSize, () -> this.calculateFontSizeInternal (text, maxHeight, maxWidth, minimumFontSize));
+    }
+
+
+    private double calculateFontSizeInternal (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
         double size = minimumFontSize;
         double fittingSize = -1;
         while (size < maxHeight)
         {
             this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
+            final double width = this.getTextWidth (text, size);
             if (width > maxWidth)
                 break;
             fittingSize = size;
@@ -270,4 +281,38 @@ public class GraphicsContextImpl implements IGraphicsContext
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
+
+
+    /**
+     * Get the width of a text. The font size must already be set.
+     *
+     * @param text The text
+     * @param fontSize The font size
+     * @return The width of the text
+     */
+    private double getTextWidth (final String text, final double fontSize)
+    {
+        return TEXT_CACHE.getTextWidth (text, fontSize, t -> this.gc.getTextExtents (t).getWidth ());
+    }
+
+
+    /**
+     * Get the height of a text. The font size must already be set.
+     *
+     * @param text The text
+     * @param fontSize The font size
+     * @return The height of the text
+     */
+    private double getTextHeight (final String text, final double fontSize)
+    {
+        return TEXT_CACHE.getTextHeight (text, fontSize, t -> this.gc.getTextExtents (t).getHeight ());
+    }
+
+
+    private static Image getImage (final IImage image)
+    {
+        if (image instanceof BitmapImpl)
+            return ((BitmapImpl) image).getBitmap ();
+        return ((ImageImpl) image).getImage ();
+    }
 }
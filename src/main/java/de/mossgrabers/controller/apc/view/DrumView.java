@@ -9,7 +9,6 @@ import de.mossgrabers.controller.apc.controller.APCControlSurface;
 import de.mossgrabers.controller.apc.mode.NoteMode;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
@@ -82,9 +81,11 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        if (this.surface.isMkII ())
+            return this.colorManager.getDAWColorIndex (drumPad.getColor ());
+        return this.colorManager.getColorIndexByHandle (AbstractDrumView.COLOR_PAD_HAS_CONTENT_HANDLE);
     }
 
 
@@ -191,8 +191,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
                 final BeatstepPadGrid beatstepPadGrid = (BeatstepPadGrid) surface.getPadGrid ();
                 for (int note = 36; note < 52; note++)
                 {
-                    final LightInfo lightInfo = beatstepPadGrid.getLightInfo (note);
-                    beatstepPadGrid.lightPad (note, lightInfo.getColor ());
+                    beatstepPadGrid.lightPad (note, LightInfo.decodeColor (beatstepPadGrid.getLightState (note)));
                 }
             }
 
@@ -106,8 +106,7 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
         if (event == ButtonEvent.UP)
         {
             // Red LED is turned off on button release, restore the correct color
-            final LightInfo lightInfo = this.pads.getLightInfo (note);
-            ((BeatstepPadGrid) this.pads).lightPad (note, lightInfo.getColor ());
+            ((BeatstepPadGrid) this.pads).lightPad (note, LightInfo.decodeColor (this.pads.getLightState (note)));
         }
     }
 
@@ -68,8 +68,10 @@ public class BeatstepPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        final int [] translate = super.translateToController (note);
-        translate[0] = 2;
-        return translate;
+        return new int []
+        {
+            2,
+            note
+        };
     }
 }
\ No newline at end of file
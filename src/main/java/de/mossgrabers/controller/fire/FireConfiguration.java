@@ -83,5 +83,10 @@ public class FireConfiguration extends AbstractConfiguration
 
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateDisplayFrameRateSetting (globalSettings);
     }
 }
@@ -505,6 +505,7 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
 
         this.configuration.registerDeactivatedItemsHandler (this.model);
 
+        this.createDisplayFrameRateObservers (this.configuration, surface.getGraphicsDisplay ());
         this.createScaleObservers (this.configuration);
         this.createNoteRepeatObservers (this.configuration, surface);
     }
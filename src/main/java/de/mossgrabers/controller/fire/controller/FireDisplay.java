@@ -10,16 +10,23 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.display.IFrameTransmitter;
 
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Arrays;
 
 
 /**
  * The display of the Akai Fire.
  *
+ * The frames contain the pixels of the 8 bands as 1 bit per pixel (a set bit is a lit pixel). Only
+ * the bands whose rows changed in the image are converted again. Neighbouring bands which changed
+ * are sent together in one message.
+ *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class FireDisplay extends AbstractGraphicDisplay
+public class FireDisplay extends AbstractGraphicDisplay implements IFrameTransmitter<long []>
 {
     // @formatter:off
     private static final int [][] BIT_MUTATE =
@@ -35,15 +42,59 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
-    private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       NUMBER_OF_BANDS = 8;
+    private static final int       BAND_WIDTH      = 128;
+    private static final int       BAND_HEIGHT     = 8;
+    private static final int       BAND_PIXELS     = BAND_WIDTH * BAND_HEIGHT;
+    /** The number of long words to store the pixels of a band. */
+    private static final int       BAND_WORDS      = BAND_PIXELS / 64;
+    private static final int       HEADER_SIZE     = 11;
+
+    /** Send the display content every 3 seconds to keep the display from going into sleep mode. */
+    private static final long      KEEP_ALIVE      = 3000;
+
+    /**
+     * The bands are written in blocks of 8x7 pixels, which are stored in 8 bytes. These blocks
+     * continue over the borders of the bands. Index is the column in the unwound arrangement of
+     * the bands to update (128 per band) and the row of the pixel. The value is the index of the
+     * byte in the packed data.
+     */
+    private static final int [] [] PACKED_INDEX    = new int [NUMBER_OF_BANDS * BAND_WIDTH] [BAND_HEIGHT];
+    /** The bit mask for the pixel in the packed byte, same indices as PACKED_INDEX. */
+    private static final int [] [] PACKED_MASK     = new int [NUMBER_OF_BANDS * BAND_WIDTH] [BAND_HEIGHT];
+    /** The size of the packed data for updating 1 to 8 neighbouring bands. */
+    private static final int []    PACKED_SIZE     = new int [NUMBER_OF_BANDS + 1];
+
+    static
+    {
+        for (int xpos = 0; xpos < NUMBER_OF_BANDS * BAND_WIDTH; xpos++)
+        {
+            for (int ypos = 0; ypos < BAND_HEIGHT; ypos++)
+            {
+                // Remap by tiling 7x8 block of translated pixels
+                final int remapBit = BIT_MUTATE[ypos][xpos % 7];
+                final int index = xpos / 7 * 8 + remapBit / 7;
+                PACKED_INDEX[xpos][ypos] = index;
+                PACKED_MASK[xpos][ypos] = 1 << remapBit % 7;
+
+                final int bands = xpos / BAND_WIDTH + 1;
+                PACKED_SIZE[bands] = Math.max (PACKED_SIZE[bands], index + 1);
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
 
-    private long                   lastSend      = System.currentTimeMillis ();
+    // Only accessed by the encoding thread
+    private final int []           sourcePixels    = new int [NUMBER_OF_BANDS * BAND_PIXELS];
+    private final int []           sourceBand      = new int [BAND_PIXELS];
+    private final long []          oledBitmap      = new long [NUMBER_OF_BANDS * BAND_WORDS];
+    private boolean                isInitialized;
+
+    // Only accessed by the sending thread
+    private final long []          oldOledBitmap   = new long [NUMBER_OF_BANDS * BAND_WORDS];
+    private final byte [] []       messages        = new byte [NUMBER_OF_BANDS + 1] [];
+    private long                   lastSend        = 0;
 
 
     /**
@@ -56,27 +107,11 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (BAND_WIDTH, NUMBER_OF_BANDS * BAND_HEIGHT, maxParameterValue), "Fire Display");
 
         this.output = output;
 
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Payload length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Payload length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start colum of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
+        this.startPipeline (this);
     }
 
 
@@ -93,61 +128,162 @@ public class FireDisplay extends AbstractGraphicDisplay
 
     /** {@inheritDoc} */
     @Override
-    protected void send (final IBitmap image)
+    public long [] createFrame ()
     {
-        synchronized (this.data)
-        {
-            image.encode ( (imageBuffer, width, height) -> {
+        return new long [NUMBER_OF_BANDS * BAND_WORDS];
+    }
+
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+    /**
+     * Converts the image to 1 bit per pixel. Only bands with changed pixels are converted.
+     *
+     * @param image An image of size 128 x 64 pixel
+     * @param frame The frame to fill
+     */
+    @Override
+    public void encode (final IBitmap image, final long [] frame)
+    {
+        image.encode ( (imageBuffer, width, height) -> {
+
+            final IntBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+            for (int band = 0; band < NUMBER_OF_BANDS; band++)
+            {
+                final int bandStart = band * BAND_PIXELS;
+                pixels.get (this.sourceBand);
+                if (this.isInitialized && Arrays.equals (this.sourceBand, 0, BAND_PIXELS, this.sourcePixels, bandStart, bandStart + BAND_PIXELS))
+                    continue;
+                System.arraycopy (this.sourceBand, 0, this.sourcePixels, bandStart, BAND_PIXELS);
+
+                final int wordStart = band * BAND_WORDS;
+                for (int word = 0; word < BAND_WORDS; word++)
                 {
-                    for (int y = 0; y < height / 8; y++)
+                    long bits = 0;
+                    final int pixelStart = word * 64;
+                    for (int i = 0; i < 64; i++)
                     {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Remap by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
+                        // The pixel is stored as blue, green, red, alpha
+                        final int pixel = this.sourceBand[pixelStart + i];
+                        if ((byte) pixel + (byte) (pixel >> 8) + (byte) (pixel >> 16) < 0)
+                            bits |= 1L << i;
                     }
+                    this.oledBitmap[wordStart + word] = bits;
                 }
-            });
+            }
+            this.isInitialized = true;
+
+            System.arraycopy (this.oledBitmap, 0, frame, 0, this.oledBitmap.length);
 
-            // Convert to sysex and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
+            imageBuffer.rewind ();
+        });
+    }
+
+
+    /**
+     * Sends the bands which changed since the last call. Neighbouring bands are sent in one
+     * message.
+     *
+     * @param frame The frame with the pixels of the display
+     */
+    @Override
+    public void send (final long [] frame)
+    {
+        final long now = System.currentTimeMillis ();
+
+        // Send all bands every 3 seconds if there was no change to keep the display from going
+        // into sleep mode
+        final boolean keepAlive = now - this.lastSend >= KEEP_ALIVE;
+
+        int band = 0;
+        while (band < NUMBER_OF_BANDS)
+        {
+            if (!keepAlive && !this.hasChanged (frame, band))
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
-                // Slow down display updates to not flood the device controller
-                // Send if content has change or every 3 seconds if there was no change to keep
-                // the display from going into sleep mode
-                final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
-                this.lastSend = now;
+                band++;
+                continue;
+            }
+
+            final int startBand = band;
+            band++;
+            while (band < NUMBER_OF_BANDS && (keepAlive || this.hasChanged (frame, band)))
+                band++;
+
+            final int length = (band - startBand) * BAND_WORDS;
+            System.arraycopy (frame, startBand * BAND_WORDS, this.oldOledBitmap, startBand * BAND_WORDS, length);
+            this.output.sendSysex (this.createMessage (frame, startBand, band - 1));
+            this.lastSend = now;
+        }
+    }
+
+
+    private boolean hasChanged (final long [] frame, final int band)
+    {
+        final int start = band * BAND_WORDS;
+        return !Arrays.equals (frame, start, start + BAND_WORDS, this.oldOledBitmap, start, start + BAND_WORDS);
+    }
 
-                this.output.sendSysex (this.data);
+
+    /**
+     * Create the system exclusive message to update a range of bands.
+     *
+     * @param frame The frame with the pixels of the display
+     * @param startBand The first band to update
+     * @param endBand The last band to update
+     * @return The message, re-used for the next update with the same number of bands
+     */
+    private byte [] createMessage (final long [] frame, final int startBand, final int endBand)
+    {
+        final int numBands = endBand - startBand + 1;
+        final int packedSize = PACKED_SIZE[numBands];
+        byte [] data = this.messages[numBands];
+        if (data == null)
+        {
+            data = new byte [HEADER_SIZE + packedSize + 1];
+            data[0] = (byte) 0xF0;
+            data[1] = 0x47; // AKAI
+            data[2] = 0x7F; // All-Call
+            data[3] = 0x43; // Fire
+            data[4] = 0x0E; // WRITE OLED
+
+            final int payloadSize = 4 + packedSize;
+            // Payload length high
+            data[5] = (byte) (payloadSize / 128);
+            // Payload length low
+            data[6] = (byte) (payloadSize % 128);
+
+            // Start colum of update
+            data[9] = 0x00;
+            // End column of update
+            data[10] = 0x7f;
+
+            data[data.length - 1] = (byte) 0xF7;
+            this.messages[numBands] = data;
+        }
+
+        // Start 8-pixel band of update
+        data[7] = (byte) startBand;
+        // End 8-pixel band of update
+        data[8] = (byte) endBand;
+
+        Arrays.fill (data, HEADER_SIZE, HEADER_SIZE + packedSize, (byte) 0);
+        for (int band = startBand; band <= endBand; band++)
+        {
+            final int columnOffset = (band - startBand) * BAND_WIDTH;
+            final int wordStart = band * BAND_WORDS;
+            for (int word = 0; word < BAND_WORDS; word++)
+            {
+                long bits = frame[wordStart + word];
+                while (bits != 0)
+                {
+                    final int i = Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+
+                    final int pixel = word * 64 + i;
+                    final int xpos = columnOffset + pixel % BAND_WIDTH;
+                    final int ypos = pixel / BAND_WIDTH;
+                    data[HEADER_SIZE + PACKED_INDEX[xpos][ypos]] |= PACKED_MASK[xpos][ypos];
+                }
             }
         }
+        return data;
     }
-}
\ No newline at end of file
+}
@@ -10,7 +10,6 @@ import de.mossgrabers.controller.fire.controller.FireColorManager;
 import de.mossgrabers.controller.fire.controller.FireControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -49,7 +48,7 @@ public class MixView extends AbstractView<FireControlSurface, FireConfiguration>
             if (track.doesExist ())
             {
                 // Select
-                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+                final int colorIndex = this.colorManager.getDAWColorIndex (track.getColor ());
                 if (track.isSelected ())
                     padGrid.lightEx (i, 0, colorIndex, FireColorManager.FIRE_COLOR_WHITE, false);
                 else
@@ -104,6 +104,7 @@ public class HUIConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
+        this.activateMidiTransmitLimitSetting (globalSettings);
 
         ///////////////////////////
         // Assignable buttons
@@ -213,6 +213,8 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
             ((HUIDisplay) surface.getDisplay ()).forceFlush ();
         });
 
+        this.createMidiTransmitLimitObserver (this.configuration);
+
         this.configuration.registerDeactivatedItemsHandler (this.model);
     }
 
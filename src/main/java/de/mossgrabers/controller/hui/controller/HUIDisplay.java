@@ -5,10 +5,12 @@
 package de.mossgrabers.controller.hui.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.display.DisplayWriter;
+import de.mossgrabers.framework.controller.display.TextDisplayTransmitter;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 
 
 /**
@@ -20,9 +22,11 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final byte []         SYSEX_DISPLAY_HEADER = SysexBuilder.fromHex ("F0 00 00 66 05 00 10");
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final DisplayWriter.Row      writerRow            = DisplayWriter.acquire ().createRows (1)[0];
+    private final TextDisplayTransmitter transmitter          = new TextDisplayTransmitter (1, 4, 4, 9, this::sendZone);
+    private final SysexBuilder           sysex                = new SysexBuilder ();
 
 
     /**
@@ -42,12 +46,10 @@ public class HUIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executor.isShutdown ())
-            return;
-        this.executor.execute ( () -> {
+        this.writerRow.write ( () -> {
             try
             {
-                this.sendDisplayLine (text);
+                this.transmitter.writeLine (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -58,22 +60,25 @@ public class HUIDisplay extends AbstractTextDisplay
 
 
     /**
-     * Send a line to the display
+     * Send a changed zone (cell) of 4 characters to the display.
      *
-     * @param text The text to send
+     * @param row The row, always 0
+     * @param offset The offset of the first character of the zone
+     * @param characters All characters of the row
+     * @param length The number of characters, always 4
      */
-    private void sendDisplayLine (final String text)
+    private void sendZone (final int row, final int offset, final char [] characters, final int length)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
-        {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
-        }
+        this.sysex.start (SYSEX_DISPLAY_HEADER).add7Bit (offset / 4).addAscii (characters, offset, length).send (this.output, TransmitPriority.TEXT);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+        this.transmitter.invalidate ();
     }
 
 
@@ -83,7 +88,8 @@ public class HUIDisplay extends AbstractTextDisplay
     {
         this.notify ("Please start " + this.host.getName () + "...");
 
-        // Prevent further sends
-        this.executor.shutdown ();
+        // Prevent further sends, the notification is still sent
+        this.writerRow.close ();
+        DisplayWriter.release ();
     }
 }
\ No newline at end of file
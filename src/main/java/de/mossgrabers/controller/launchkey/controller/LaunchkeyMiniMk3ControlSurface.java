@@ -91,7 +91,7 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             final IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightInfo (note).getEncoded (), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightState (note), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
             final int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
             pad.bind (input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -177,6 +177,8 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
+        // All pads and buttons are addressed independently by their note or CC
+        output.setCollapsing (true);
         final IMidiInput input = midiAccess.createInput ("Pads", "80????" /* Note off */,
                 "90????" /* Note on */);
         final LaunchpadControlSurface surface = new LaunchpadControlSurface (this.host, this.colorManager, this.configuration, output, input, this.definition);
@@ -355,7 +357,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         surface.createLight (OutputID.LED1, () -> {
 
             final ITrack track = this.model.getSelectedTrack ();
-            return track != null && track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+            return track != null && track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
 
         }, color -> this.definition.setLogoColor (surface, color), state -> this.colorManager.getColor (state, null), null);
 
@@ -478,7 +480,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         if (modeManager.isActiveOrTempMode (Modes.STOP_CLIP))
             return surface.isPressed (ButtonID.get (ButtonID.PAD1, index)) ? LaunchpadColorManager.LAUNCHPAD_COLOR_RED : LaunchpadColorManager.LAUNCHPAD_COLOR_ROSE;
 
-        return this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+        return this.colorManager.getDAWColorIndex (track.getColor ());
     }
 
 
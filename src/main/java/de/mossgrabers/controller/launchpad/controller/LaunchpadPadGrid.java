@@ -6,13 +6,12 @@ package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 
 /**
@@ -36,15 +35,24 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    private static final int []                  INVERSE_TRANSLATE_MATRIX = new int [128];
+    private static final int [] []               TRANSLATED_NOTES         = new int [TRANSLATE_MATRIX.length] [];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+        {
+            INVERSE_TRANSLATE_MATRIX[TRANSLATE_MATRIX[i]] = 36 + i;
+            TRANSLATED_NOTES[i] = new int []
+            {
+                0,
+                TRANSLATE_MATRIX[i]
+            };
+        }
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final PadStateBuffer                 padInfos                 = new PadStateBuffer ();
 
 
     /**
@@ -66,8 +74,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note < 0 || note >= INVERSE_TRANSLATE_MATRIX.length ? -1 : INVERSE_TRANSLATE_MATRIX[note];
     }
 
 
@@ -76,11 +83,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     public int [] translateToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-        return new int []
-        {
-            0,
-            TRANSLATE_MATRIX[note - 36]
-        };
+        return TRANSLATED_NOTES[note - 36];
     }
 
 
@@ -93,8 +96,8 @@ public class LaunchpadPadGrid extends PadGridImpl
         {
             if (this.padInfos.isEmpty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
+            for (final byte [] update: this.definition.buildLEDUpdate (this.padInfos))
+                this.output.sendSysex (update, TransmitPriority.CONTROL);
             this.padInfos.clear ();
         }
     }
@@ -106,7 +109,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -117,9 +120,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlink (note, blinkColor, fast);
         }
     }
 }
\ No newline at end of file
@@ -9,12 +9,11 @@ import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
 import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -25,7 +24,9 @@ import java.util.UUID;
  */
 public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefinition implements ILaunchpadControllerDefinition
 {
-    protected final ButtonSetup buttonSetup = new ButtonSetup ();
+    protected final ButtonSetup  buttonSetup = new ButtonSetup ();
+    protected final SysexBuilder sysex       = new SysexBuilder ();
+    private byte []              sysExHeader;
 
 
     /**
@@ -110,35 +111,49 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final PadStateBuffer padInfos)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        final SysexBuilder sb = this.sysex.start (this.getSysExHeaderBytes ()).addByte (0x03);
+        for (int note = padInfos.nextChanged (0); note >= 0; note = padInfos.nextChanged (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int state = padInfos.getState (note);
+            final int color = LightInfo.decodeColor (state);
+            final int blinkColor = LightInfo.decodeBlinkColor (state);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static colour from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sb.addByte (0x00).add7Bit (note).add7Bit (color);
             }
             else
             {
-                if (info.isFast ())
+                if (LightInfo.decodeFast (state))
                 {
                     // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and
                     // Colour A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sb.addByte (0x01).add7Bit (note).add7Bit (blinkColor).add7Bit (color);
                 }
                 else
                 {
                     // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sb.addByte (0x02).add7Bit (note).add7Bit (color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return Collections.singletonList (sb.build ());
+    }
+
+
+    /**
+     * Get the sysex header of the device as bytes.
+     *
+     * @return The header including the start byte F0
+     */
+    protected byte [] getSysExHeaderBytes ()
+    {
+        if (this.sysExHeader == null)
+            this.sysExHeader = SysexBuilder.fromHex (this.getSysExHeader ());
+        return this.sysExHeader;
     }
 }
@@ -6,10 +6,9 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
 
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -93,10 +92,10 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update sysex string for all given pads.
+     * Create the update sysex messages for all given pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The sysex string
+     * @param padInfos The changed pads and their states
+     * @return The sysex messages
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<byte []> buildLEDUpdate (PadStateBuffer padInfos);
 }
@@ -7,14 +7,13 @@ package de.mossgrabers.controller.launchpad.definition;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -28,6 +27,9 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
     private static final UUID   EXTENSION_ID = UUID.fromString ("4E01A0B0-67B1-11E5-A837-0800200C9A66");
     private static final String SYSEX_HEADER = "F0 00 20 29 02 18 ";
 
+    private final SysexBuilder  sysexFlash   = new SysexBuilder ();
+    private final SysexBuilder  sysexPulse   = new SysexBuilder ();
+
 
     /**
      * Constructor.
@@ -109,37 +111,39 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final PadStateBuffer padInfos)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        final byte [] sysExHeader = this.getSysExHeaderBytes ();
+        final SysexBuilder sbNormal = this.sysex.start (sysExHeader).addByte (0x0A);
+        final SysexBuilder sbFlash = this.sysexFlash.start (sysExHeader).addByte (0x23);
+        final SysexBuilder sbPulse = this.sysexPulse.start (sysExHeader).addByte (0x28);
+        final int emptyLength = sbNormal.getLength ();
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = padInfos.nextChanged (0); note >= 0; note = padInfos.nextChanged (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int state = padInfos.getState (note);
+            final int color = LightInfo.decodeColor (state);
+            final int blinkColor = LightInfo.decodeBlinkColor (state);
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            sbNormal.add7Bit (note).add7Bit (color);
 
-            if (info.getBlinkColor () > 0)
+            if (blinkColor > 0)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                if (LightInfo.decodeFast (state))
+                    sbFlash.addByte (0x00).add7Bit (note).add7Bit (blinkColor);
                 else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                    sbPulse.addByte (0x00).add7Bit (note).add7Bit (blinkColor);
             }
         }
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
+        final List<byte []> result = new ArrayList<> (3);
+        if (sbNormal.getLength () > emptyLength)
+            result.add (sbNormal.build ());
+        if (sbFlash.getLength () > emptyLength)
+            result.add (sbFlash.build ());
+        if (sbPulse.getLength () > emptyLength)
+            result.add (sbPulse.build ());
         return result;
     }
 }
@@ -513,7 +513,7 @@ public class MaschineControllerSetup extends AbstractControllerSetup<MaschineCon
                 }, MaschineControlSurface.BANK_1 + i, () -> {
 
                     final ITrack item = this.model.getCurrentTrackBank ().getItem (index);
-                    return item.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (item.getColor ())) : 0;
+                    return item.doesExist () ? this.colorManager.getDAWColorIndex (item.getColor ()) : 0;
 
                 });
             }
@@ -211,6 +211,7 @@ public class MCUConfiguration extends AbstractConfiguration
         this.activateHardwareSettings (globalSettings);
         this.activateExtenderSettings (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
+        this.activateMidiTransmitLimitSetting (globalSettings);
 
         ///////////////////////////
         // Segment display
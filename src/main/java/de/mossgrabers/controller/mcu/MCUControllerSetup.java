@@ -298,6 +298,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             }
         });
 
+        this.createMidiTransmitLimitObserver (this.configuration);
+
         this.configuration.registerDeactivatedItemsHandler (this.model);
     }
 
@@ -5,11 +5,13 @@
 package de.mossgrabers.controller.mcu.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.display.DisplayWriter;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.display.TextDisplayTransmitter;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 
 
 /**
@@ -19,15 +21,17 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []         SYSEX_DISPLAY_HEADER1_MAIN     = SysexBuilder.fromHex ("F0 00 00 66 14 12");
+    private static final byte []         SYSEX_DISPLAY_HEADER1_EXTENDER = SysexBuilder.fromHex ("F0 00 00 66 15 12");
+    private static final byte []         SYSEX_DISPLAY_HEADER2          = SysexBuilder.fromHex ("F0 00 00 67 15 13");
 
-    private final boolean               isFirstDisplay;
-    private final boolean               isExtender;
-    private final boolean               hasMaster;
+    private final boolean                isFirstDisplay;
+    private final boolean                isExtender;
+    private final boolean                hasMaster;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final DisplayWriter.Row []   rows;
+    private final TextDisplayTransmitter transmitter                    = new TextDisplayTransmitter (2, 8, this::sendSpan);
+    private final SysexBuilder           sysex                          = new SysexBuilder ();
 
 
     /**
@@ -48,8 +52,7 @@ public class MCUDisplay extends AbstractTextDisplay
         this.hasMaster = hasMaster;
         this.isExtender = isMCUExtender;
 
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        this.rows = DisplayWriter.acquire ().createRows (2);
     }
 
 
@@ -59,7 +62,7 @@ public class MCUDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
+            this.writeCell (row, column, value, 0, this.charactersOfCell - 1, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -89,18 +92,10 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        if (executor.isShutdown ())
-            return;
-
-        executor.execute ( () -> {
+        this.rows[row].write ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.transmitter.writeLine (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -110,7 +105,21 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader ()
+    /**
+     * Send the changed characters of a row. The row and offset are sent as one position byte.
+     *
+     * @param row The row
+     * @param offset The offset of the first character in the row
+     * @param characters All characters of the row
+     * @param length The number of characters to send
+     */
+    private void sendSpan (final int row, final int offset, final char [] characters, final int length)
+    {
+        this.sysex.start (this.getHeader ()).add7Bit ((row == 0 ? 0 : 0x38) + offset).addAscii (characters, offset, length).send (this.output, TransmitPriority.TEXT);
+    }
+
+
+    private byte [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
@@ -118,14 +127,24 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+        this.transmitter.invalidate ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
     {
         this.notify ("Please start " + this.host.getName () + "...");
 
-        // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i].shutdown ();
+        // Prevent further sends, the notification is still sent
+        for (final DisplayWriter.Row r: this.rows)
+            r.close ();
+        DisplayWriter.release ();
     }
 }
\ No newline at end of file
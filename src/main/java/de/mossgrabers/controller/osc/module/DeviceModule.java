@@ -8,7 +8,6 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
-import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDeviceBank;
@@ -183,8 +182,7 @@ public class DeviceModule extends AbstractModule
         if (this.configuration.isEnableVUMeters ())
             writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
 
-        final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (deviceAddress + "color", channel.getColor (), dump);
     }
 
 
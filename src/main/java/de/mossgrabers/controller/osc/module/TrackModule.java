@@ -159,12 +159,10 @@ public class TrackModule extends AbstractModule
             writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
             writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
 
-            final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddress + "color", slot.getColor (), dump);
         }
 
-        final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddress + "color", track.getColor (), dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
         writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
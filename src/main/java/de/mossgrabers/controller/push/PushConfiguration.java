@@ -377,6 +377,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
 
         this.activatePush2HardwareSettings (globalSettings);
         this.activatePush2DisplayColorsSettings (globalSettings);
+        if (this.isPush2)
+            this.activateDisplayFrameRateSetting (globalSettings);
 
         ///////////////////////////
         // Debugging
@@ -205,6 +205,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         }
         ms.setNumMarkers (8);
         ms.setHasFlatTrackList (false);
+        ms.setHasClipNoteIndex (true);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         this.sceneBank64 = this.model.createSceneBank (64);
 
@@ -231,6 +232,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
+        // All pads and buttons are addressed independently by their note or CC
+        output.setCollapsing (true);
         final IMidiInput input = midiAccess.createInput ("Pads", "80????" /* Note off */,
                 "90????" /* Note on */, "B040??" /* Sustainpedal */);
         final PushControlSurface surface = new PushControlSurface (this.host, this.colorManager, this.configuration, output, input);
@@ -407,6 +410,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
             this.configuration.addSettingObserver (PushConfiguration.COLOR_MUTE, this::redraw);
             this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_DARKER, this::redraw);
             this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_LIGHTER, this::redraw);
+
+            this.createDisplayFrameRateObservers (this.configuration, surface.getGraphicsDisplay ());
         }
 
         this.createScaleObservers (this.configuration);
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -26,31 +28,33 @@ import java.util.List;
 public class Push1Display extends AbstractTextDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String      BARS_NON      = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String      BARS_ONE      = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String      BARS_TWO      = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    public static final String     BARS_ONE_L    = Character.toString ((char) 4);
+    public static final String      BARS_ONE_L    = Character.toString ((char) 4);
     /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    private static final String     NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
     /** Push character codes for value bars - the right arrow. */
-    public static final String     SELECT_ARROW  = Character.toString ((char) 127);
+    public static final String      SELECT_ARROW  = Character.toString ((char) 127);
     /** Push character for a degree sign. */
-    public static final String     DEGREE        = Character.toString ((char) 9);
+    public static final String      DEGREE        = Character.toString ((char) 9);
     /** Push character for a right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
+    public static final String      RIGHT_ARROW   = Character.toString ((char) 30);
 
-    private static final String [] SYSEX_MESSAGE =
+    private static final byte [] [] SYSEX_MESSAGE =
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        SysexBuilder.fromHex ("F0 47 7F 15 18 00 45 00"),
+        SysexBuilder.fromHex ("F0 47 7F 15 19 00 45 00"),
+        SysexBuilder.fromHex ("F0 47 7F 15 1A 00 45 00"),
+        SysexBuilder.fromHex ("F0 47 7F 15 1B 00 45 00")
     };
 
-    private int                    maxParameterValue;
+    private final SysexBuilder      sysex         = new SysexBuilder ();
+
+    private int                     maxParameterValue;
 
 
     /**
@@ -82,7 +86,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
+        this.writeCell (row, column, null, column % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -94,12 +98,12 @@ public class Push1Display extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
+            this.writeCell (row, cell, value, 9);
+            this.writeCell (row, cell + 1, value, 9, 8, 8);
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
+            this.writeCell (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -118,7 +122,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        this.writeCell (row, cell, value, 0, 8, cell % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -147,7 +151,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        this.sysex.start (Push1Display.SYSEX_MESSAGE[row]).addAscii (text).send (this.output, TransmitPriority.TEXT);
     }
 
 
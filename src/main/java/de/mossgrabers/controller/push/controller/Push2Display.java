@@ -8,7 +8,6 @@ import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
-import de.mossgrabers.framework.graphics.IBitmap;
 
 
 /**
@@ -34,6 +33,7 @@ public class Push2Display extends AbstractGraphicDisplay
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
         this.usbDisplay = new PushUsbDisplay (host);
+        this.startPipeline (this.usbDisplay);
     }
 
 
@@ -54,18 +54,11 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         this.setMessage (3, "Please start " + this.host.getName () + " to play...");
         this.send ();
-        if (this.usbDisplay != null)
-            this.usbDisplay.shutdown ();
 
+        // Waits until the last image is sent
         super.shutdown ();
-    }
-
 
-    /** {@inheritDoc} */
-    @Override
-    protected void send (final IBitmap image)
-    {
         if (this.usbDisplay != null)
-            this.usbDisplay.send (image);
+            this.usbDisplay.shutdown ();
     }
 }
\ No newline at end of file
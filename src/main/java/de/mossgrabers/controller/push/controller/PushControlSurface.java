@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -433,6 +434,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     private static final int       PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
     private static final int       NUM_VELOCITY_CURVE_ENTRIES    = 128;
 
+    private static final byte []   PUSH2_SYSEX_HEADER            = SysexBuilder.fromHex ("F0 00 21 1D 01 01");
+
     private static final int []    SYSEX_HEADER                  =
     {
         0xF0,
@@ -443,6 +446,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
+    private final SysexBuilder     sysex                         = new SysexBuilder ();
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
     private boolean                colorPaletteHasUpdate         = false;
 
@@ -799,7 +803,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPush2SysEx (final int [] parameters)
     {
-        this.output.sendSysex ("F0 00 21 1D 01 01 " + StringUtils.toHexStr (parameters) + "F7");
+        this.sysex.start (PUSH2_SYSEX_HEADER).add7Bit (parameters).send (this.output);
     }
 
 
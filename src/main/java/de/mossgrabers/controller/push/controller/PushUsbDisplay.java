@@ -7,27 +7,39 @@ package de.mossgrabers.controller.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.display.IFrameTransmitter;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
-import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * Connects to the display of the Push 2 via USB.
  *
+ * The display always needs to receive a complete frame. Therefore, only the rows of the image
+ * which changed since the last frame are converted and copied into the frame buffers and a frame
+ * is only sent if it differs from the previously sent one (or to keep the display alive).
+ *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class PushUsbDisplay
+public class PushUsbDisplay implements IFrameTransmitter<PushUsbDisplay.EncodedFrame>
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int     DATA_SZ         = 20 * 0x4000;
+
+    private static final int     TIMEOUT         = 1000;
 
-    private static final int     TIMEOUT        = 1000;
+    /** The display turns off if it does not receive a frame for 2 seconds. */
+    private static final long    KEEP_ALIVE      = 1000;
 
-    private static final byte [] DISPLAY_HEADER =
+    private static final byte [] DISPLAY_HEADER  =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -47,11 +59,24 @@ public class PushUsbDisplay
         0
     };
 
+    private final IHost          host;
     private IUsbDevice           usbDevice;
     private IUsbEndpoint         usbEndpoint;
     private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private AtomicBoolean        isSending       = new AtomicBoolean (false);
+
+    // Only accessed by the encoding thread
+    private long []              sourcePixels    = new long [0];
+    private long []              sourceRow       = new long [0];
+    private long []              rowVersions     = new long [0];
+    private final short []       encodedData     = new short [DATA_SZ / 2];
+    private long                 version;
+
+    // Only accessed by the sending thread
+    private long                 lastSentVersion = -1;
+    private long                 lastSendTime;
+
+    private final AtomicLong     bytesSaved      = new AtomicLong ();
 
 
     /**
@@ -61,6 +86,8 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
+        this.host = host;
+
         try
         {
             this.usbDevice = host.getUsbDevice (0);
@@ -75,59 +102,132 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public EncodedFrame createFrame ()
+    {
+        return new EncodedFrame (this.host.createMemoryBlock (DATA_SZ));
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Convert the image to the display format of the Push 2. Only the rows which changed since the
+     * last call are converted. Rows which are outdated in the given frame are copied into it.
+     *
+     * The pixels are processed as pairs in long words. The converted rows are already padded and
+     * written as a whole into the memory block of the frame.
      *
-     * @param image An image of size 960 x 160 pixel
+     * @param image An image of size 960 x 160 pixel, the width must be even
+     * @param frame The frame to fill
      */
-    public void send (final IBitmap image)
+    @Override
+    public void encode (final IBitmap image, final EncodedFrame frame)
     {
-        synchronized (this.isSending)
-        {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
-                return;
+        image.encode ( (imageBuffer, width, height) -> {
 
-            this.isSending.set (true);
+            // The size of one line in the frame including the padding (in 16 bit pixels)
+            final int lineSize = DATA_SZ / 2 / height;
+            final int rowLength = width / 2;
+            if (this.rowVersions.length != height)
+            {
+                this.sourcePixels = new long [rowLength * height];
+                this.sourceRow = new long [rowLength];
+                this.rowVersions = new long [height];
+                Arrays.fill (this.rowVersions, -1);
+            }
 
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
+            // Convert all rows which are different from the last image
+            final LongBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asLongBuffer ();
+            boolean hasChanged = false;
+            for (int y = 0; y < height; y++)
+            {
+                final int rowStart = y * rowLength;
+                pixels.get (this.sourceRow, 0, rowLength);
+                if (this.rowVersions[y] >= 0 && Arrays.equals (this.sourceRow, 0, rowLength, this.sourcePixels, rowStart, rowStart + rowLength))
+                    continue;
 
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
+                if (!hasChanged)
+                {
+                    hasChanged = true;
+                    this.version++;
+                }
 
-                final int padding = (buffer.capacity () - height * width * 2) / height;
+                System.arraycopy (this.sourceRow, 0, this.sourcePixels, rowStart, rowLength);
+                this.rowVersions[y] = this.version;
 
-                for (int y = 0; y < height; y++)
+                int pos = y * lineSize;
+                for (int x = 0; x < rowLength; x++)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
+                    final long pixelPair = encodePixels (this.sourceRow[x]);
+                    this.encodedData[pos++] = (short) pixelPair;
+                    this.encodedData[pos++] = (short) (pixelPair >>> 32);
                 }
+            }
+
+            // Copy the rows into the frame, which are outdated there
+            final ShortBuffer buffer = frame.getBuffer ();
+            final long [] frameRowVersions = frame.getRowVersions (height);
+            for (int y = 0; y < height; y++)
+            {
+                if (frameRowVersions[y] == this.rowVersions[y])
+                    continue;
+                final int pos = y * lineSize;
+                buffer.position (pos);
+                buffer.put (this.encodedData, pos, lineSize);
+                frameRowVersions[y] = this.rowVersions[y];
+            }
+            frame.version = this.version;
+
+            imageBuffer.rewind ();
+        });
+    }
+
+
+    /**
+     * Send the encoded image to the screen. If the image did not change since the last sent frame
+     * it is only sent to keep the display alive.
+     *
+     * @param frame The frame with the encoded image
+     */
+    @Override
+    public void send (final EncodedFrame frame)
+    {
+        synchronized (this.isSending)
+        {
+            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
+                return;
 
-                imageBuffer.rewind ();
-            });
+            final long now = System.currentTimeMillis ();
+            if (frame.version == this.lastSentVersion && now - this.lastSendTime < KEEP_ALIVE)
+            {
+                this.bytesSaved.addAndGet (DISPLAY_HEADER.length + DATA_SZ);
+                return;
+            }
+            this.lastSentVersion = frame.version;
+            this.lastSendTime = now;
 
+            this.isSending.set (true);
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.usbEndpoint.send (frame.getBlock (), TIMEOUT);
             this.isSending.set (false);
         }
     }
 
 
+    /**
+     * Get the number of bytes which were not transmitted since the frames did not change.
+     *
+     * @return The number of bytes
+     */
+    public long getBytesSaved ()
+    {
+        return this.bytesSaved.get ();
+    }
+
+
     /**
      * Stops all transfers to the device. Nulls the device.
      */
@@ -141,13 +241,82 @@ public class PushUsbDisplay
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts two pixels from BGRA (8 bits per channel) to RGB565 (5 bits red, 6 bits green, 5
+     * bits blue in the order blue, green, red from the highest to the lowest bit).
+     *
+     * @param pixelPair Two BGRA pixels read as a little endian long word, the first pixel is in
+     *            the lower 32 bits
+     * @return The two converted pixels in the lower 16 bits of each 32 bit half
+     */
+    private static long encodePixels (final long pixelPair)
+    {
+        final long blue = (pixelPair & 0x000000F8000000F8L) << 8;
+        final long green = (pixelPair & 0x0000FC000000FC00L) >>> 5;
+        final long red = pixelPair >>> 19 & 0x0000001F0000001FL;
+        return blue | green | red;
+    }
+
+
+    /**
+     * A memory block which contains an encoded image and the versions of its rows.
+     */
+    static class EncodedFrame
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        private final IMemoryBlock block;
+        private final ShortBuffer  buffer;
+        private long []            rowVersions = new long [0];
+        private long               version     = -1;
+
+
+        /**
+         * Constructor.
+         *
+         * @param block The memory block to hold the encoded image
+         */
+        EncodedFrame (final IMemoryBlock block)
+        {
+            this.block = block;
+            this.buffer = block.createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+        }
+
+
+        /**
+         * Get the memory block.
+         *
+         * @return The memory block
+         */
+        IMemoryBlock getBlock ()
+        {
+            return this.block;
+        }
+
+
+        /**
+         * Get the buffer to write the 16 bit pixels into the memory block.
+         *
+         * @return The buffer
+         */
+        ShortBuffer getBuffer ()
+        {
+            return this.buffer;
+        }
+
+
+        /**
+         * Get the versions of the encoded rows, which are contained in the memory block.
+         *
+         * @param height The number of rows
+         * @return The versions
+         */
+        long [] getRowVersions (final int height)
+        {
+            if (this.rowVersions.length != height)
+            {
+                this.rowVersions = new long [height];
+                Arrays.fill (this.rowVersions, -2);
+            }
+            return this.rowVersions;
+        }
     }
 }
@@ -9,7 +9,8 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 
 
 /**
@@ -20,10 +21,13 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractTextDisplay
 {
     /** The right arrow. */
-    public static final String   RIGHT_ARROW = ">";
+    public static final String   RIGHT_ARROW          = ">";
+
+    private static final byte [] SYSEX_DISPLAY_HEADER = SysexBuilder.fromHex (SLControlSurface.SYSEX_HEADER + "02 01 00");
 
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
+    private final SysexBuilder   sysex                = new SysexBuilder ();
 
 
     /**
@@ -65,7 +69,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = "         ";
+        this.writeCell (row, column, null, 9);
         return this;
     }
 
@@ -77,12 +81,12 @@ public class SLDisplay extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
+            this.writeCell (row, cell, value, 9);
+            this.writeCell (row, cell + 1, value, 9, 8, 9);
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
+            this.writeCell (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -95,7 +99,7 @@ public class SLDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
+            this.writeCell (row, column, value, 0, 8, 9);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -109,11 +113,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (row + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysex.start (SYSEX_DISPLAY_HEADER).add7Bit (row + 1).addByte (0x04).addAscii (text).addByte (0x00).send (this.output, TransmitPriority.TEXT);
     }
 
 
@@ -125,14 +125,6 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
-
-
     /**
      * Get the 1st hardware display.
      *
@@ -8,6 +8,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.TransmitPriority;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -18,12 +20,11 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final byte [] MKIII_SYSEX_HEADER               = SysexBuilder.fromHex ("F0 00 20 29 02 0A 01");
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -32,9 +33,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
+
+    private final SysexBuilder   sysex                            = new SysexBuilder ();
 
     private final String []      ledCache                         = new String [8];
     private final int [] []      displayColorCache                = new int [9] [4];
@@ -77,7 +80,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.sysex.start (MKIII_SYSEX_HEADER).addByte (MKIII_SYSEX_LAYOUT_COMMAND).add7Bit (layout.intValue ()).send (this.output, TransmitPriority.TEXT);
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -105,7 +108,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.sysex.start (MKIII_SYSEX_HEADER).addByte (MKIII_SYSEX_LED_COMMAND).add7Bit (led).addByte (0x01).add7Bit (rgb).send (this.output, TransmitPriority.CONTROL);
     }
 
 
@@ -122,7 +125,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.startProperty (PROPERTY_COLOR, hPosition, vPosition).add7Bit (color).send (this.output, TransmitPriority.TEXT);
     }
 
 
@@ -139,8 +142,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        this.startProperty (PROPERTY_TEXT, hPosition, vPosition).addAscii (ascii).addByte (0x00).send (this.output, TransmitPriority.TEXT);
     }
 
 
@@ -157,22 +159,21 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.startProperty (PROPERTY_VALUE, hPosition, vPosition).add7Bit (value).send (this.output, TransmitPriority.TEXT);
     }
 
 
     /**
-     * Set a display property.
+     * Start a message to set a display property. The values of the property need to be added.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @return The builder to add the values
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder startProperty (final int property, final int hPosition, final int vPosition)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        return this.sysex.start (MKIII_SYSEX_HEADER).addByte (MKIII_SYSEX_PROPERTY_COMMAND).add7Bit (hPosition).add7Bit (property).add7Bit (vPosition);
     }
 
 
@@ -195,9 +196,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        // Notifications might arrive from a different thread, therefore use a separate builder
+        new SysexBuilder ().start (MKIII_SYSEX_HEADER).addByte (MKIII_SYSEX_NOTIFICATION_COMMAND).addAscii (text1).addByte (0x00).addAscii (text2).addByte (0x00).send (this.output, TransmitPriority.TEXT);
     }
 
 
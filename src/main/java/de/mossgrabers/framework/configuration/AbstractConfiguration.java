@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.constants.EditCapability;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.graphics.display.FrameRateGovernor;
 import de.mossgrabers.framework.observer.SettingObserver;
 import de.mossgrabers.framework.scale.Scale;
 import de.mossgrabers.framework.scale.ScaleLayout;
@@ -112,6 +113,12 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      INCLUDE_MASTER                    = Integer.valueOf (37);
     /** Setting for excluding deactivated tracks. */
     public static final Integer      EXCLUDE_DEACTIVATED_ITEMS         = Integer.valueOf (38);
+    /** The maximum frame rate of graphics displays. */
+    public static final Integer      DISPLAY_FRAME_RATE                = Integer.valueOf (39);
+    /** Setting for reducing the quality of graphics displays if rendering is too slow. */
+    public static final Integer      ADAPTIVE_DISPLAY_QUALITY          = Integer.valueOf (40);
+    /** The maximum number of bytes per second to send to the device. */
+    public static final Integer      MIDI_TRANSMIT_LIMIT               = Integer.valueOf (41);
 
     // Implementation IDs start at 50
 
@@ -295,6 +302,7 @@ public abstract class AbstractConfiguration implements Configuration
     private IEnumSetting                             midiEditChannelSetting;
 
     private final Map<Integer, Set<SettingObserver>> observers                   = new HashMap<> ();
+    private final Set<SettingObserver>               anyObservers                = new HashSet<> ();
     protected IValueChanger                          valueChanger;
 
     private String                                   scale                       = "Major";
@@ -344,6 +352,9 @@ public abstract class AbstractConfiguration implements Configuration
 
     private boolean                                  includeMaster               = true;
     private boolean                                  excludeDeactivatedItems     = false;
+    private int                                      displayFrameRate            = FrameRateGovernor.DEFAULT_FRAME_RATE;
+    private boolean                                  isAdaptiveDisplayQuality    = true;
+    private int                                      midiTransmitLimit           = 0;
     private final String []                          userPageNames               = new String [8];
 
 
@@ -376,11 +387,20 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addSettingObserver (final SettingObserver observer)
+    {
+        this.anyObservers.add (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearSettingObservers ()
     {
         this.observers.clear ();
+        this.anyObservers.clear ();
     }
 
 
@@ -706,6 +726,39 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Get the maximum frame rate of graphics displays.
+     *
+     * @return The frames per second
+     */
+    public int getDisplayFrameRate ()
+    {
+        return this.displayFrameRate;
+    }
+
+
+    /**
+     * Should the quality of graphics displays be reduced if rendering is too slow?
+     *
+     * @return True if enabled
+     */
+    public boolean isAdaptiveDisplayQuality ()
+    {
+        return this.isAdaptiveDisplayQuality;
+    }
+
+
+    /**
+     * Get the maximum number of bytes per second to send to the device.
+     *
+     * @return The bytes per second, 0 for no limit
+     */
+    public int getMidiTransmitLimit ()
+    {
+        return this.midiTransmitLimit;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getKnobSpeedNormal ()
@@ -1250,6 +1303,42 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the frame rate settings of graphics displays.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateDisplayFrameRateSetting (final ISettingsUI settingsUI)
+    {
+        final IIntegerSetting displayFrameRateSetting = settingsUI.getRangeSetting ("Display Frame Rate", CATEGORY_HARDWARE_SETUP, 5, 60, 1, "fps", FrameRateGovernor.DEFAULT_FRAME_RATE);
+        displayFrameRateSetting.addValueObserver (value -> {
+            this.displayFrameRate = value.intValue ();
+            this.notifyObservers (DISPLAY_FRAME_RATE);
+        });
+        final IEnumSetting adaptiveDisplayQualitySetting = settingsUI.getEnumSetting ("Reduce Display Quality if slow", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
+        adaptiveDisplayQualitySetting.addValueObserver (value -> {
+            this.isAdaptiveDisplayQuality = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (ADAPTIVE_DISPLAY_QUALITY);
+        });
+    }
+
+
+    /**
+     * Activate the MIDI transmit limit setting. Slow devices, e.g. connected via a 5-pin DIN MIDI
+     * cable (3125 bytes per second), might drop messages if too many are sent at once.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMidiTransmitLimitSetting (final ISettingsUI settingsUI)
+    {
+        final IIntegerSetting midiTransmitLimitSetting = settingsUI.getRangeSetting ("MIDI Transmit Limit (0 = Off)", CATEGORY_HARDWARE_SETUP, 0, 32000, 250, "bytes/s", 0);
+        midiTransmitLimitSetting.addValueObserver (value -> {
+            this.midiTransmitLimit = value.intValue ();
+            this.notifyObservers (MIDI_TRANSMIT_LIMIT);
+        });
+    }
+
+
     /**
      * Activate the note repeat settings.
      *
@@ -1342,6 +1431,7 @@ public abstract class AbstractConfiguration implements Configuration
         final Set<SettingObserver> set = this.observers.get (settingID);
         if (set != null)
             set.forEach (SettingObserver::hasChanged);
+        this.anyObservers.forEach (SettingObserver::hasChanged);
     }
 
 
@@ -26,6 +26,14 @@ public interface Configuration
     void addSettingObserver (Integer settingID, SettingObserver observer);
 
 
+    /**
+     * Registers an observer which gets called when any of the settings has changed.
+     *
+     * @param observer The observer to call when a setting has changed
+     */
+    void addSettingObserver (SettingObserver observer);
+
+
     /**
      * Removes all setting observers.
      */
@@ -56,6 +56,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                      BUTTON_STATE_INTERVAL = 400;
     protected static final int                      NUM_NOTES             = 128;
     protected static final int                      NUM_INFOS             = 256;
+    /** Redraw the grid at least that often (in ms), since not all state changes are tracked. */
+    protected static final int                      GRID_REDRAW_INTERVAL  = 1000;
 
     protected final IHost                           host;
     protected final IHwSurfaceFactory               surfaceFactory;
@@ -89,6 +91,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private final Object                            updateCounterLock     = new Object ();
     private int                                     updateCounter         = 0;
 
+    private View                                    lastGridView;
+    private boolean                                 isGridInvalid         = true;
+    private long                                    lastGridRedraw;
+
 
     /**
      * Constructor.
@@ -160,6 +166,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
 
+        this.modeManager.addModeListener ( (oldMode, newMode) -> this.invalidateGrid ());
+        // The grid depends on several settings (flip session, record stripe, drum pads, ...)
+        this.configuration.addSettingObserver (this::invalidateGrid);
+
         this.createPads ();
 
         // Light guide
@@ -169,7 +179,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             for (int i = 0; i < size; i++)
             {
                 final int note = this.lightGuide.getStartNote () + i;
-                this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getLightInfo (note).getEncoded (), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
+                this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getLightState (note), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
             }
         }
     }
@@ -191,7 +201,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
             final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightInfo (note).getEncoded (), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightState (note), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
             final int [] translated = this.pads.translateToController (note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -514,6 +524,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
         this.buttons.put (buttonID, button);
+        // Views might draw the grid depending on the state of buttons (e.g. Shift)
+        button.addEventHandler (ButtonEvent.DOWN, event -> this.invalidateGrid ());
+        button.addEventHandler (ButtonEvent.UP, event -> this.invalidateGrid ());
         return button;
     }
 
@@ -664,6 +677,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 return;
         }
 
+        // Collect the updates of all controls and send them at once
+        if (this.output != null)
+            this.output.beginBatch ();
         try
         {
             this.updateViewControls ();
@@ -674,6 +690,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         {
             this.host.error ("Crash during flush.", ex);
         }
+        finally
+        {
+            if (this.output != null)
+                this.output.endBatch ();
+        }
 
         synchronized (this.updateCounterLock)
         {
@@ -693,6 +714,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void clearCache ()
     {
         this.surfaceFactory.clearCache ();
+        this.invalidateGrid ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidateGrid ()
+    {
+        this.isGridInvalid = true;
     }
 
 
@@ -702,6 +732,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         this.internalShutdown ();
         this.flushHardware ();
+
+        // Send all queued messages and stop draining
+        if (this.output != null)
+            this.output.getTransmitQueue ().setLimit (0);
     }
 
 
@@ -729,6 +763,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
      */
     protected void handleMidi (final int status, final int data1, final int data2)
     {
+        this.invalidateGrid ();
+
         final int code = status & 0xF0;
         final int channel = status & 0xF;
 
@@ -904,8 +940,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected void updateGrid ()
     {
         final View view = this.viewManager.getActiveView ();
-        if (view != null)
-            view.drawGrid ();
+        if (view == null)
+            return;
+
+        // Always ask the view, so that it can store the state of the model it has seen
+        final boolean isDirty = view.isGridDirty ();
+        final long now = System.currentTimeMillis ();
+        if (!isDirty && !this.isGridInvalid && view == this.lastGridView && now - this.lastGridRedraw < GRID_REDRAW_INTERVAL)
+            return;
+
+        this.isGridInvalid = false;
+        this.lastGridView = view;
+        this.lastGridRedraw = now;
+        view.drawGrid ();
     }
 
 
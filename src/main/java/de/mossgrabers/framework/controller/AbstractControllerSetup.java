@@ -11,6 +11,7 @@ import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -21,10 +22,12 @@ import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.EditCapability;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.SettingObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
@@ -153,6 +156,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        this.model.flush ();
         for (final S surface: this.surfaces)
             surface.flush ();
     }
@@ -1096,6 +1100,38 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Register observers for the frame rate settings of a graphics display.
+     *
+     * @param conf The configuration
+     * @param display The graphics display
+     */
+    protected void createDisplayFrameRateObservers (final AbstractConfiguration conf, final IGraphicDisplay display)
+    {
+        final SettingObserver observer = () -> display.setFrameRate (conf.getDisplayFrameRate (), conf.isAdaptiveDisplayQuality ());
+        conf.addSettingObserver (AbstractConfiguration.DISPLAY_FRAME_RATE, observer);
+        conf.addSettingObserver (AbstractConfiguration.ADAPTIVE_DISPLAY_QUALITY, observer);
+    }
+
+
+    /**
+     * Register an observer which applies the MIDI transmit limit to the outputs of all surfaces.
+     *
+     * @param conf The configuration
+     */
+    protected void createMidiTransmitLimitObserver (final AbstractConfiguration conf)
+    {
+        conf.addSettingObserver (AbstractConfiguration.MIDI_TRANSMIT_LIMIT, () -> {
+            for (final S surface: this.surfaces)
+            {
+                final IMidiOutput output = surface.getMidiOutput ();
+                if (output != null)
+                    output.getTransmitQueue ().setLimit (conf.getMidiTransmitLimit ());
+            }
+        });
+    }
+
+
     /**
      * Update the active views note mapping.
      */
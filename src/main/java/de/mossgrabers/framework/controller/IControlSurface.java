@@ -475,6 +475,14 @@ public interface IControlSurface<C extends Configuration>
     void clearCache ();
 
 
+    /**
+     * Forces the grid to be redrawn on the next flush. Call this if a state has changed, on which
+     * the drawing of the grid depends and which is not tracked by the model (see
+     * {@link de.mossgrabers.framework.view.View#isGridDirty()}).
+     */
+    void invalidateGrid ();
+
+
     /**
      * Overwrite for shutdown cleanups.
      */
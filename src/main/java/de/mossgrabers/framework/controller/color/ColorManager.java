@@ -7,26 +7,64 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. The IDs are interned to dense integer handles which are the same
+ * for all color managers. The color indices and colors are stored in flat arrays, therefore code
+ * which draws a lot (e.g. the pads of a grid) can look up the color index by handle without
+ * hashing.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String                BUTTON_STATE_OFF   = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String                BUTTON_STATE_ON    = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String                BUTTON_STATE_HI    = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int                  NOT_REGISTERED     = -1;
+    private static final int                  NUM_COLORS         = 128;
+
+    private static final Map<String, Integer> HANDLES            = new ConcurrentHashMap<> ();
+    private static final List<String>         KEYS               = new ArrayList<> ();
+
+    private int []                            colorIndexByHandle = new int [0];
+    protected final ColorEx []                colorByIndex       = new ColorEx [NUM_COLORS];
+
+
+    /**
+     * Get the handle of a color ID. The handle is created if the ID is not known yet. Looking up
+     * a known ID does not lock.
+     *
+     * @param key The color ID
+     * @return The handle
+     */
+    public static int getColorHandle (final String key)
+    {
+        final Integer handle = HANDLES.get (key);
+        if (handle != null)
+            return handle.intValue ();
+
+        synchronized (KEYS)
+        {
+            final Integer existing = HANDLES.get (key);
+            if (existing != null)
+                return existing.intValue ();
+            final int newHandle = KEYS.size ();
+            KEYS.add (key);
+            HANDLES.put (key, Integer.valueOf (newHandle));
+            return newHandle;
+        }
+    }
 
 
     /**
@@ -37,9 +75,16 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final int handle = getColorHandle (key);
+        if (handle >= this.colorIndexByHandle.length)
+        {
+            final int oldLength = this.colorIndexByHandle.length;
+            this.colorIndexByHandle = Arrays.copyOf (this.colorIndexByHandle, Math.max (handle + 1, oldLength * 2));
+            Arrays.fill (this.colorIndexByHandle, oldLength, this.colorIndexByHandle.length, NOT_REGISTERED);
+        }
+        if (this.colorIndexByHandle[handle] != NOT_REGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.colorIndexByHandle[handle] = colorIndex;
     }
 
 
@@ -63,10 +108,42 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        return this.getColorIndexByHandle (getColorHandle (key));
+    }
+
+
+    /**
+     * Get the color index which is registered with the given handle.
+     *
+     * @param handle The handle of the color ID, see {@link #getColorHandle(String)}
+     * @return The color index
+     */
+    public int getColorIndexByHandle (final int handle)
+    {
+        final int colorIndex = handle < this.colorIndexByHandle.length ? this.colorIndexByHandle[handle] : NOT_REGISTERED;
+        if (colorIndex == NOT_REGISTERED)
+        {
+            final String key;
+            synchronized (KEYS)
+            {
+                key = handle < KEYS.size () ? KEYS.get (handle) : Integer.toString (handle);
+            }
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        }
+        return colorIndex;
+    }
+
+
+    /**
+     * Get the color index of the DAW color which is closest to the given color. The closest DAW
+     * color is cached for each color, therefore this is cheap to call on every update.
+     *
+     * @param color The color
+     * @return The color index
+     */
+    public int getDAWColorIndex (final ColorEx color)
+    {
+        return this.getColorIndexByHandle (DAWColor.getDAWColor (color).getColorHandle ());
     }
 
 
@@ -78,9 +155,9 @@ public class ColorManager
      */
     public void registerColor (final int colorIndex, final ColorEx color)
     {
-        if (colorIndex < 0 || colorIndex > 127)
+        if (colorIndex < 0 || colorIndex >= NUM_COLORS)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -95,7 +172,19 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        return this.getRegisteredColor (colorIndex);
+    }
+
+
+    /**
+     * Get the color which is registered for the given color index.
+     *
+     * @param colorIndex The color index
+     * @return The color
+     */
+    protected ColorEx getRegisteredColor (final int colorIndex)
+    {
+        final ColorEx color = colorIndex < NUM_COLORS ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -31,14 +31,20 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.graphics.display.ColumnRecord;
+import de.mossgrabers.framework.graphics.display.DisplayPipeline;
+import de.mossgrabers.framework.graphics.display.FrameRateGovernor;
+import de.mossgrabers.framework.graphics.display.IFrameTransmitter;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -52,40 +58,56 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 {
     /** Display only a channel name for selection. */
-    public static final int                GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int                  GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int                GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int                  GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int                GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int                  GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int                GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int                  GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int                GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int                  GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int                GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int                  GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int                GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int                  GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int                GRID_ELEMENT_OPTIONS            = 7;
+    public static final int                  GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int                GRID_ELEMENT_LIST               = 8;
+    public static final int                  GRID_ELEMENT_LIST               = 8;
 
     /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 2;
-
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
-
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
-    private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
-
-    protected final IHost                  host;
-    protected final IGraphicsConfiguration configuration;
-    protected final IGraphicsDimensions    dimensions;
-    private final IBitmap                  image;
-
-    private IHwGraphicsDisplay             hardwareDisplay;
+    private static final int                 TIMEOUT                         = 2;
+
+    private static final int                 RECORD_CHANNEL                  = 0;
+    private static final int                 RECORD_CHANNEL_SELECT           = 1;
+    private static final int                 RECORD_PARAMETER_CHANNEL        = 2;
+    private static final int                 RECORD_PARAMETER_PLAIN          = 3;
+    private static final int                 RECORD_PARAMETER_DEVICE         = 4;
+    private static final int                 RECORD_OPTION                   = 5;
+
+    private final AtomicInteger              counter                         = new AtomicInteger ();
+    private final ScheduledExecutorService   executor                        = DisplayScheduler.acquire ();
+    private final ScheduledFuture<?>         notificationTimer;
+    private volatile boolean                 isShutdown;
+
+    private final List<IComponent>           columns                         = new ArrayList<> (8);
+    private final AtomicReference<String>    notificationMessage             = new AtomicReference<> ();
+    private ModelInfo                        info                            = new ModelInfo (null, Collections.emptyList ());
+    private boolean []                       dirtyColumns                    = new boolean [8];
+    private ColumnRecord []                  records                         = new ColumnRecord [8];
+    private final FrameRateGovernor          governor                        = new FrameRateGovernor ();
+    private final AtomicReference<ModelInfo> deferredModel                   = new AtomicReference<> ();
+    private int []                           lastVuLeft                      = new int [8];
+    private int []                           lastVuRight                     = new int [8];
+
+    protected final IHost                    host;
+    protected final IGraphicsConfiguration   configuration;
+    protected final IGraphicsDimensions      dimensions;
+    private final IBitmap                    image;
+
+    private IHwGraphicsDisplay               hardwareDisplay;
+    private DisplayPipeline<?>               pipeline;
 
 
     /**
@@ -108,7 +130,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         this.image.setDisplayWindowTitle (windowTitle);
 
         // Manage notification message display time
-        this.executor.scheduleAtFixedRate ( () -> {
+        this.notificationTimer = this.executor.scheduleAtFixedRate ( () -> {
             int c = this.counter.get ();
             if (c > 0)
                 c = this.counter.decrementAndGet ();
@@ -118,6 +140,49 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Starts the pipeline which renders the image and sends it to the device in the background.
+     * Without a pipeline the image is only rendered.
+     *
+     * @param <F> The type of the frame buffer
+     * @param transmitter Encodes the rendered image and sends it to the device
+     */
+    protected <F> void startPipeline (final IFrameTransmitter<F> transmitter)
+    {
+        this.pipeline = new DisplayPipeline<> (this.image, this::render, transmitter);
+    }
+
+
+    /**
+     * Get the pipeline which renders and sends the image, e.g. to query its statistics.
+     *
+     * @return The pipeline or null if not started
+     */
+    public DisplayPipeline<?> getPipeline ()
+    {
+        return this.pipeline;
+    }
+
+
+    /**
+     * Get the governor which limits the frame rate of the display.
+     *
+     * @return The governor
+     */
+    public FrameRateGovernor getFrameRateGovernor ()
+    {
+        return this.governor;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFrameRate (final int frameRate, final boolean isAdaptiveQuality)
+    {
+        this.governor.setFrameRate (frameRate, isAdaptiveQuality);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void cancelNotification ()
@@ -138,7 +203,20 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        if (this.isShutdown)
+            return;
+        this.isShutdown = true;
+
+        this.notificationTimer.cancel (false);
+        DisplayScheduler.release ();
+
+        // Do not drop a frame which was deferred by the frame rate limit, e.g. the last message
+        final ModelInfo model = this.deferredModel.getAndSet (null);
+        if (model != null)
+            this.submit (model);
+
+        if (this.pipeline != null)
+            this.pipeline.shutdown ();
     }
 
 
@@ -146,30 +224,108 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown)
             return;
 
-        final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
+        // Bitmaps must be created on the host thread, the render thread only reads the atlas
+        ResourceHandler.createRequestedImages ();
 
-        // Only render image if there is a change in the data
-        if (!this.info.equals (newInfo))
+        final ModelInfo model = new ModelInfo (this.notificationMessage.get (), this.columns);
+        this.columns.clear ();
+
+        // Too early for the next frame, keep the latest model and send it when the frame is due
+        final long delay = this.governor.getFrameDelay ();
+        if (delay > 0)
         {
-            this.info = newInfo;
-            this.renderImage ();
+            this.governor.frameSkipped ();
+            if (this.deferredModel.getAndSet (model) == null)
+                this.executor.schedule (this::sendDeferred, delay, TimeUnit.MILLISECONDS);
+            return;
         }
 
-        this.columns.clear ();
+        this.deferredModel.set (null);
+        this.submit (model);
+    }
+
+
+    /**
+     * Send the latest model which was deferred since it came too early.
+     */
+    private void sendDeferred ()
+    {
+        if (this.isShutdown)
+            return;
 
-        this.send (this.image);
+        final long delay = this.governor.getFrameDelay ();
+        if (delay > 0)
+        {
+            if (this.deferredModel.get () != null)
+                this.executor.schedule (this::sendDeferred, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        final ModelInfo model = this.deferredModel.getAndSet (null);
+        if (model != null)
+            this.submit (model);
     }
 
 
     /**
-     * Send the buffered image to the graphics display.
+     * Render the model directly or hand it to the pipeline.
      *
-     * @param image An image
+     * @param model The model to render
      */
-    protected abstract void send (final IBitmap image);
+    private void submit (final ModelInfo model)
+    {
+        if (this.pipeline == null)
+            this.render (model);
+        else
+            this.pipeline.submit (model);
+    }
+
+
+    /**
+     * Render the model into the image, if there is a change compared to the last rendered model.
+     *
+     * @param model The model to render
+     */
+    private void render (final ModelInfo model)
+    {
+        final String notification = model.getNotification ();
+        final List<IComponent> newColumns = model.getComponents ();
+        final List<IComponent> oldColumns = this.info.getComponents ();
+        final int size = newColumns.size ();
+
+        // A changed layout or notification requires to redraw the whole image
+        boolean isFullRedraw = size != oldColumns.size () || !Objects.equals (notification, this.info.getNotification ());
+        boolean hasChanges = isFullRedraw;
+        if (!isFullRedraw)
+        {
+            if (this.dirtyColumns.length < size)
+                this.dirtyColumns = new boolean [size];
+            for (int i = 0; i < size; i++)
+            {
+                // Unchanged columns share the same component
+                final IComponent newColumn = newColumns.get (i);
+                final IComponent oldColumn = oldColumns.get (i);
+                final boolean isDirty = newColumn != oldColumn && !Objects.equals (newColumn, oldColumn);
+                this.dirtyColumns[i] = isDirty;
+                hasChanges |= isDirty;
+            }
+            // The notification is drawn on top of all columns
+            if (hasChanges && notification != null)
+                isFullRedraw = true;
+        }
+
+        // Only render image if there is a change in the data
+        if (hasChanges)
+        {
+            this.info = model;
+            final long start = System.nanoTime ();
+            this.renderImage (isFullRedraw ? null : this.dirtyColumns);
+            this.governor.reportRenderTime (System.nanoTime () - start);
+        }
+    }
 
 
     /** {@inheritDoc} */
@@ -219,7 +375,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final boolean isActive)
     {
-        this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        final ColumnRecord record = this.beginRecord (RECORD_CHANNEL_SELECT).add (topMenu).add (isTopMenuOn).add (bottomMenu).add (type).add (bottomMenuColor).add (isBottomMenuOn).add (isActive);
+        this.columns.add (record.isChanged () ? record.setComponent (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive)) : record.getComponent ());
     }
 
 
@@ -251,7 +408,25 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+
+        // Keep the previous VU values if the display is in reduced quality mode
+        final int column = this.columns.size ();
+        if (column >= this.lastVuLeft.length)
+        {
+            this.lastVuLeft = Arrays.copyOf (this.lastVuLeft, column + 1);
+            this.lastVuRight = Arrays.copyOf (this.lastVuRight, column + 1);
+        }
+        if (this.governor.isVuUpdateDue ())
+        {
+            this.lastVuLeft[column] = vuLeft;
+            this.lastVuRight[column] = vuRight;
+        }
+
+        final int left = this.lastVuLeft[column];
+        final int right = this.lastVuRight[column];
+        final ColumnRecord record = this.beginRecord (RECORD_CHANNEL).add (editType).add (topMenu).add (isTopMenuOn).add (bottomMenu).add (bottomMenuColor).add (isBottomMenuOn).add (type);
+        record.add (volume).add (modulatedVolume).add (volumeStr).add (pan).add (modulatedPan).add (panStr).add (left).add (right).add (mute).add (solo).add (recarm).add (isActive).add (crossfadeMode);
+        this.columns.add (record.isChanged () ? record.setComponent (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, left, right, mute, solo, recarm, isActive, crossfadeMode)) : record.getComponent ());
     }
 
 
@@ -275,7 +450,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ColumnRecord record = this.beginRecord (RECORD_PARAMETER_CHANNEL).add (topMenu).add (isTopMenuOn).add (bottomMenu).add (type).add (bottomMenuColor).add (isBottomMenuOn);
+        record.add (parameterName).add (parameterValue).add (parameterValueStr).add (parameterIsActive).add (parameterModulatedValue);
+        this.columns.add (record.isChanged () ? record.setComponent (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive)) : record.getComponent ());
     }
 
 
@@ -283,7 +460,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        final ColumnRecord record = this.beginRecord (RECORD_PARAMETER_PLAIN).add (topMenu).add (isTopMenuOn).add (bottomMenu).add (bottomMenuColor).add (isBottomMenuOn);
+        record.add (parameterName).add (parameterValue).add (parameterValueStr).add (parameterIsActive).add (parameterModulatedValue);
+        this.columns.add (record.isChanged () ? record.setComponent (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN)) : record.getComponent ());
     }
 
 
@@ -291,7 +470,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ColumnRecord record = this.beginRecord (RECORD_PARAMETER_DEVICE).add (topMenu).add (isTopMenuOn).add (bottomMenu).add (deviceName).add (bottomMenuColor).add (isBottomMenuOn);
+        record.add (parameterName).add (parameterValue).add (parameterValueStr).add (parameterIsActive).add (parameterModulatedValue);
+        this.columns.add (record.isChanged () ? record.setComponent (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive)) : record.getComponent ());
     }
 
 
@@ -315,7 +496,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        final ColumnRecord record = this.beginRecord (RECORD_OPTION).add (headerTopName).add (menuTopName).add (isMenuTopSelected).add (menuTopColor).add (headerBottomName);
+        record.add (menuBottomName).add (isMenuBottomSelected).add (menuBottomColor).add (useSmallTopMenu).add (isBottomHeaderSelected);
+        this.columns.add (record.isChanged () ? record.setComponent (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected)) : record.getComponent ());
     }
 
 
@@ -370,6 +553,24 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Get the record of the column which is added next and start to add the values of the current
+     * flush to it.
+     *
+     * @param kind The kind of the component
+     * @return The record
+     */
+    private ColumnRecord beginRecord (final int kind)
+    {
+        final int column = this.columns.size ();
+        if (column >= this.records.length)
+            this.records = Arrays.copyOf (this.records, column + 1);
+        if (this.records[column] == null)
+            this.records[column] = new ColumnRecord ();
+        return this.records[column].begin (kind);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setHardwareDisplay (final IHwGraphicsDisplay display)
@@ -394,16 +595,23 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Render the image. If dirty columns are given only these columns are cleared and drawn again,
+     * all other pixels of the bitmap are kept.
+     *
+     * @param dirtyColumns Flags for the columns to redraw, null to redraw the whole image
+     */
+    private void renderImage (final boolean [] dirtyColumns)
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+        this.image.render (this.configuration.isAntialiasEnabled () && !this.governor.isReducedQuality (), gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
             final double separatorSize = this.dimensions.getSeparatorSize ();
 
             // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            if (dirtyColumns == null)
+                gc.fillRectangle (0, 0, width, height, colorBorder);
 
             final List<IComponent> elements = this.info.getComponents ();
             final int size = elements.size ();
@@ -416,9 +624,19 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
+                final double left = i * gridWidth + offsetX;
+                if (dirtyColumns != null)
+                {
+                    if (!dirtyColumns[i])
+                        continue;
+                    // The slot of a column includes the separator on its right side, since
+                    // components (e.g. the menu line) can draw into it
+                    gc.fillRectangle (left, 0, Math.min (gridWidth, width - left), height, colorBorder);
+                }
+
                 final IComponent component = elements.get (i);
                 if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                    component.draw (graphicsInfo.withBounds (left, 0, paintWidth, height));
             }
 
             final String notification = this.info.getNotification ();
@@ -7,7 +7,8 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
 
 
 /**
@@ -34,11 +35,16 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected int            isNotificationActive = 0;
     protected final Object   notificationLock     = new Object ();
 
-    private final String     emptyCell;
     protected String []      currentMessage;
     protected String []      message;
     protected String []      fullRows;
-    protected String []      cells;
+
+    private final char [] [] cells;
+    private final int []     cellLengths;
+    private final boolean [] isRowDirty;
+    private final int []     lineLengths;
+    private final char [] [] lines;
+    private char []          lineBuffer;
 
     protected IHwTextDisplay hwDisplay;
 
@@ -62,8 +68,6 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.noOfCharacters = noOfCharacters;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        this.emptyCell = "                                                                     ".substring (0, this.charactersOfCell);
-
         final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
@@ -74,7 +78,22 @@ public abstract class AbstractTextDisplay implements ITextDisplay
 
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+
+        final int size = this.noOfLines * this.noOfCells;
+        this.cells = new char [size] [];
+        this.cellLengths = new int [size];
+        for (int i = 0; i < size; i++)
+        {
+            this.cells[i] = new char [this.charactersOfCell];
+            Arrays.fill (this.cells[i], ' ');
+            this.cellLengths[i] = this.charactersOfCell;
+        }
+        this.isRowDirty = new boolean [this.noOfLines];
+        Arrays.fill (this.isRowDirty, true);
+        this.lineLengths = new int [this.noOfLines];
+        Arrays.fill (this.lineLengths, -1);
+        this.lines = new char [this.noOfLines] [this.noOfCharacters];
+        this.lineBuffer = new char [this.noOfCharacters];
     }
 
 
@@ -160,15 +179,42 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         {
             this.message[row] = this.fullRows[row];
             this.fullRows[row] = null;
+            // The cells need to be combined again when they are used the next time
+            this.lineLengths[row] = -1;
+            this.isRowDirty[row] = true;
+            return this;
         }
-        else
+
+        if (!this.isRowDirty[row])
+            return this;
+        this.isRowDirty[row] = false;
+
+        // Combine the cells and create a new message only if the row has changed
+        final int index = row * this.noOfCells;
+        int length = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+            length += this.cellLengths[index + i];
+        if (this.lineBuffer.length < length)
+            this.lineBuffer = new char [length];
+        int pos = 0;
+        for (int i = 0; i < this.noOfCells; i++)
         {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            final int cellLength = this.cellLengths[index + i];
+            System.arraycopy (this.cells[index + i], 0, this.lineBuffer, pos, cellLength);
+            pos += cellLength;
         }
 
+        char [] line = this.lines[row];
+        if (this.lineLengths[row] == length && Arrays.equals (line, 0, length, this.lineBuffer, 0, length))
+            return this;
+        if (line.length < length)
+        {
+            line = new char [length];
+            this.lines[row] = line;
+        }
+        System.arraycopy (this.lineBuffer, 0, line, 0, length);
+        this.lineLengths[row] = length;
+        this.message[row] = new String (line, 0, length);
         return this;
     }
 
@@ -187,7 +233,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        this.writeCell (row, column, null, 0, 0, this.charactersOfCell);
         return this;
     }
 
@@ -207,7 +253,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
+            this.writeCell (row, column, value, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -224,8 +270,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.writeCell (row, cell, value, 0, this.charactersOfCell, this.charactersOfCell);
+            this.writeCell (row, cell + 1, value, this.charactersOfCell, this.charactersOfCell, this.charactersOfCell);
         }
         else
         {
@@ -236,6 +282,61 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /**
+     * Write a text into a cell. The text is cut or padded with spaces to the given width.
+     *
+     * @param row The row of the cell
+     * @param column The column of the cell
+     * @param value The text, null is handled as empty text
+     * @param width The number of characters of the cell
+     */
+    protected void writeCell (final int row, final int column, final String value, final int width)
+    {
+        this.writeCell (row, column, value, 0, width, width);
+    }
+
+
+    /**
+     * Write a part of a text into a cell. At most maxLength characters are taken from the text
+     * starting at the offset, the rest of the cell is filled with spaces. The characters are
+     * written in place, the row is only marked as changed if a character differs.
+     *
+     * @param row The row of the cell
+     * @param column The column of the cell
+     * @param value The text, null is handled as empty text
+     * @param offset The index of the first character to take from the text
+     * @param maxLength The maximum number of characters to take from the text
+     * @param width The number of characters of the cell
+     */
+    protected void writeCell (final int row, final int column, final String value, final int offset, final int maxLength, final int width)
+    {
+        final int index = row * this.noOfCells + column;
+        char [] cell = this.cells[index];
+        if (cell.length < width)
+        {
+            cell = new char [width];
+            this.cells[index] = cell;
+        }
+
+        final int available = value == null ? 0 : Math.max (0, value.length () - offset);
+        final int length = Math.min (Math.min (maxLength, width), available);
+        boolean hasChanged = this.cellLengths[index] != width;
+        for (int i = 0; i < width; i++)
+        {
+            final char c = i < length ? value.charAt (offset + i) : ' ';
+            if (cell[i] != c)
+            {
+                cell[i] = c;
+                hasChanged = true;
+            }
+        }
+        this.cellLengths[index] = width;
+
+        if (hasChanged)
+            this.isRowDirty[row] = true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notify (final String message)
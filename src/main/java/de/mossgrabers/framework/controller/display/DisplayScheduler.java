@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+
+/**
+ * One scheduling thread shared by all displays of all surfaces for their housekeeping, e.g. the
+ * timeout of notifications or sending text lines. It also drains the MIDI transmit queues which
+ * have a limit. Each user acquires the service when it is created (or the limit is enabled) and
+ * releases it on shutdown. The service is shut down when the last user has released it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class DisplayScheduler
+{
+    private static final String             THREAD_NAME = "Display Scheduler";
+
+    private static final Object             LOCK        = new Object ();
+    private static ScheduledExecutorService service;
+    private static int                      users;
+
+
+    /**
+     * Private due to helper class.
+     */
+    private DisplayScheduler ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the shared scheduling service. Starts it if it is not running. Each call must be matched
+     * by a call to {@link #release()}.
+     *
+     * @return The service
+     */
+    public static ScheduledExecutorService acquire ()
+    {
+        synchronized (LOCK)
+        {
+            if (service == null)
+            {
+                service = Executors.newSingleThreadScheduledExecutor (runnable -> {
+                    final Thread thread = new Thread (runnable, THREAD_NAME);
+                    thread.setDaemon (true);
+                    return thread;
+                });
+            }
+            users++;
+            return service;
+        }
+    }
+
+
+    /**
+     * Release the shared scheduling service. If there are no more users, the service is shut down.
+     * Tasks which were already submitted are still executed but periodic tasks are cancelled.
+     */
+    public static void release ()
+    {
+        synchronized (LOCK)
+        {
+            if (users == 0)
+                return;
+            users--;
+            if (users > 0)
+                return;
+            service.shutdown ();
+            service = null;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * One writer shared by all text displays of all surfaces to send their lines to the device. The
+ * writes are keyed by display and row. Only the latest pending write of a row is kept, older ones
+ * are dropped (coalesced). The pending writes are executed in the order in which their rows were
+ * queued on the thread of the {@link DisplayScheduler}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class DisplayWriter
+{
+    private static final Object            INSTANCE_LOCK  = new Object ();
+    private static DisplayWriter           instance;
+    private static int                     users;
+
+    private final ScheduledExecutorService executor;
+    private final Object                   lock           = new Object ();
+    private final Queue<Row>               queue          = new ArrayDeque<> ();
+    private boolean                        isDraining;
+
+    private final AtomicLong               writeCount     = new AtomicLong ();
+    private final AtomicLong               coalescedCount = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param executor The executor on which to run the writes
+     */
+    private DisplayWriter (final ScheduledExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
+
+    /**
+     * Get the shared writer. Starts it if it is not running. Each call must be matched by a call to
+     * {@link #release()}.
+     *
+     * @return The writer
+     */
+    public static DisplayWriter acquire ()
+    {
+        synchronized (INSTANCE_LOCK)
+        {
+            if (instance == null)
+                instance = new DisplayWriter (DisplayScheduler.acquire ());
+            users++;
+            return instance;
+        }
+    }
+
+
+    /**
+     * Release the shared writer. If there are no more users, the writer is stopped after all
+     * pending writes have been executed.
+     */
+    public static void release ()
+    {
+        synchronized (INSTANCE_LOCK)
+        {
+            if (users == 0)
+                return;
+            users--;
+            if (users > 0)
+                return;
+            instance = null;
+            DisplayScheduler.release ();
+        }
+    }
+
+
+    /**
+     * Create the keys for the rows of a display.
+     *
+     * @param numberOfRows The number of rows of the display
+     * @return The rows
+     */
+    public Row [] createRows (final int numberOfRows)
+    {
+        final Row [] rows = new Row [numberOfRows];
+        for (int i = 0; i < numberOfRows; i++)
+            rows[i] = new Row ();
+        return rows;
+    }
+
+
+    /**
+     * Get the number of executed writes.
+     *
+     * @return The number of writes
+     */
+    public long getWriteCount ()
+    {
+        return this.writeCount.get ();
+    }
+
+
+    /**
+     * Get the number of writes which were dropped since a newer write for the same row arrived
+     * before they were executed.
+     *
+     * @return The number of coalesced writes
+     */
+    public long getCoalescedCount ()
+    {
+        return this.coalescedCount.get ();
+    }
+
+
+    /**
+     * Get the number of rows which have a pending write.
+     *
+     * @return The number of pending writes
+     */
+    public int getPendingCount ()
+    {
+        synchronized (this.lock)
+        {
+            return this.queue.size ();
+        }
+    }
+
+
+    /**
+     * Execute the pending writes in the order in which they were queued.
+     */
+    private void drain ()
+    {
+        try
+        {
+            Runnable task;
+            while ((task = this.next ()) != null)
+            {
+                task.run ();
+                this.writeCount.incrementAndGet ();
+            }
+        }
+        finally
+        {
+            synchronized (this.lock)
+            {
+                this.isDraining = false;
+                if (!this.queue.isEmpty ())
+                    this.startDraining ();
+            }
+        }
+    }
+
+
+    /**
+     * Remove the next pending write from the queue.
+     *
+     * @return The write or null if there are no more pending writes
+     */
+    private Runnable next ()
+    {
+        synchronized (this.lock)
+        {
+            final Row row = this.queue.poll ();
+            if (row == null)
+                return null;
+            final Runnable task = row.pending;
+            row.pending = null;
+            return task;
+        }
+    }
+
+
+    /**
+     * Schedule the execution of the pending writes. Must be called while holding the lock.
+     */
+    private void startDraining ()
+    {
+        try
+        {
+            this.executor.execute (this::drain);
+            this.isDraining = true;
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // The writer has been stopped, drop all pending writes
+            for (final Row row: this.queue)
+                row.pending = null;
+            this.queue.clear ();
+        }
+    }
+
+
+    /**
+     * The key for the writes to one row of a display.
+     */
+    public final class Row
+    {
+        private Runnable pending;
+        private boolean  isClosed;
+
+
+        /**
+         * Constructor.
+         */
+        Row ()
+        {
+            // Intentionally empty
+        }
+
+
+        /**
+         * Queue a write of this row. If there is already a pending write of this row it is replaced
+         * but keeps its position in the queue.
+         *
+         * @param task The task which writes the row
+         * @return False if the row is closed and the write was dropped
+         */
+        public boolean write (final Runnable task)
+        {
+            synchronized (DisplayWriter.this.lock)
+            {
+                if (this.isClosed)
+                    return false;
+
+                if (this.pending == null)
+                    DisplayWriter.this.queue.add (this);
+                else
+                    DisplayWriter.this.coalescedCount.incrementAndGet ();
+                this.pending = task;
+
+                if (!DisplayWriter.this.isDraining)
+                    DisplayWriter.this.startDraining ();
+                return true;
+            }
+        }
+
+
+        /**
+         * Close the row. Further writes are dropped but a pending write is still executed.
+         */
+        public void close ()
+        {
+            synchronized (DisplayWriter.this.lock)
+            {
+                this.isClosed = true;
+            }
+        }
+
+
+        /**
+         * Returns true if the row is closed.
+         *
+         * @return True if closed
+         */
+        public boolean isClosed ()
+        {
+            synchronized (DisplayWriter.this.lock)
+            {
+                return this.isClosed;
+            }
+        }
+    }
+}
@@ -340,4 +340,13 @@ public interface IGraphicDisplay extends IDisplay
      * @return The bitmap
      */
     IBitmap getImage ();
+
+
+    /**
+     * Limit the number of frames per second which are rendered.
+     *
+     * @param frameRate The maximum frames per second
+     * @param isAdaptiveQuality True to reduce the rendering quality if rendering gets too slow
+     */
+    void setFrameRate (int frameRate, boolean isAdaptiveQuality);
 }
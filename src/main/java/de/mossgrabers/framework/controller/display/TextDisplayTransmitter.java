@@ -0,0 +1,157 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import java.util.Arrays;
+
+
+/**
+ * Sends only the changed parts of the lines of a text display. The last sent characters of each
+ * row are kept and compared with a new line. The changed characters are combined into spans which
+ * are sent with their offset. If the unchanged gap between two spans is smaller than the overhead
+ * of an additional message, both spans are sent in one message.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextDisplayTransmitter
+{
+    /**
+     * Sends a span of characters to the display.
+     */
+    @FunctionalInterface
+    public interface ISpanSender
+    {
+        /**
+         * Send a span of characters of a row.
+         *
+         * @param row The row of the display
+         * @param offset The offset of the first character in the row
+         * @param characters All characters of the row
+         * @param length The number of characters to send, starting at the offset
+         */
+        void sendSpan (int row, int offset, char [] characters, int length);
+    }
+
+
+    private final ISpanSender sender;
+    private final int         zoneSize;
+    private final int         maxSpanLength;
+    private final int         messageOverhead;
+    private final char [] []  lastLines;
+    private final boolean []  isValid;
+
+
+    /**
+     * Constructor for displays which can be written at any character offset.
+     *
+     * @param noOfLines The number of rows of the display
+     * @param messageOverhead The number of bytes of a message without the characters
+     * @param sender Sends the spans to the display
+     */
+    public TextDisplayTransmitter (final int noOfLines, final int messageOverhead, final ISpanSender sender)
+    {
+        this (noOfLines, 1, Integer.MAX_VALUE, messageOverhead, sender);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param noOfLines The number of rows of the display
+     * @param zoneSize The display can only be addressed in blocks of this number of characters
+     * @param maxSpanLength The maximum number of characters which can be sent in one message
+     * @param messageOverhead The number of bytes of a message without the characters
+     * @param sender Sends the spans to the display
+     */
+    public TextDisplayTransmitter (final int noOfLines, final int zoneSize, final int maxSpanLength, final int messageOverhead, final ISpanSender sender)
+    {
+        this.sender = sender;
+        this.zoneSize = zoneSize;
+        this.maxSpanLength = maxSpanLength;
+        this.messageOverhead = messageOverhead;
+        this.lastLines = new char [noOfLines] [];
+        this.isValid = new boolean [noOfLines];
+    }
+
+
+    /**
+     * Send the changed characters of a line to the display.
+     *
+     * @param row The row of the display
+     * @param text The text of the whole row
+     */
+    public synchronized void writeLine (final int row, final String text)
+    {
+        final int length = text.length ();
+        char [] line = this.lastLines[row];
+        if (line == null || line.length != length)
+        {
+            line = new char [length];
+            this.lastLines[row] = line;
+            this.isValid[row] = false;
+        }
+
+        final boolean isFullLine = !this.isValid[row];
+        int spanStart = -1;
+        int spanEnd = -1;
+        for (int start = 0; start < length; start += this.zoneSize)
+        {
+            final int end = Math.min (start + this.zoneSize, length);
+            if (!isFullLine && !updateZone (line, text, start, end))
+                continue;
+            if (isFullLine)
+                text.getChars (start, end, line, start);
+
+            if (spanStart >= 0 && (start - spanEnd > this.messageOverhead || end - spanStart > this.maxSpanLength))
+            {
+                this.sender.sendSpan (row, spanStart, line, spanEnd - spanStart);
+                spanStart = -1;
+            }
+            if (spanStart < 0)
+                spanStart = start;
+            spanEnd = end;
+        }
+        if (spanStart >= 0)
+            this.sender.sendSpan (row, spanStart, line, spanEnd - spanStart);
+
+        this.isValid[row] = true;
+    }
+
+
+    /**
+     * Forget the sent lines. The next call to {@link #writeLine(int, String)} sends the whole line.
+     * Call if the content of the display got lost, e.g. since the device displays something
+     * different.
+     */
+    public synchronized void invalidate ()
+    {
+        Arrays.fill (this.isValid, false);
+    }
+
+
+    /**
+     * Copy the characters of a zone into the line, if they differ.
+     *
+     * @param line The last sent characters
+     * @param text The new text
+     * @param start The start of the zone
+     * @param end The end of the zone (exclusive)
+     * @return True if the zone has changed
+     */
+    private static boolean updateZone (final char [] line, final String text, final int start, final int end)
+    {
+        boolean hasChanged = false;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (line[i] != c)
+            {
+                line[i] = c;
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+}
@@ -75,7 +75,8 @@ public interface ILightGuide
      * Plug for grids not sending notes in the range of 36-100.
      *
      * @param note The outgoing note
-     * @return The midi channel (index 0) and note (index 1) scaled to the controller
+     * @return The midi channel (index 0) and note (index 1) scaled to the controller, the array
+     *         might be shared and must not be modified
      */
     int [] translateToController (int note);
 
@@ -105,6 +106,15 @@ public interface ILightGuide
     LightInfo getLightInfo (int note);
 
 
+    /**
+     * Get the color and blink states of a LED encoded as one integer.
+     *
+     * @param note The LED of the note (0-127)
+     * @return The encoded states, see {@link LightInfo#getEncoded()}
+     */
+    int getLightState (int note);
+
+
     /**
      * Set the state to the controller.
      *
@@ -37,10 +37,7 @@ public class LightInfo
      */
     public void setColors (final int color, final int blinkColor, final boolean fast)
     {
-        if (color < 0 || color > 127)
-            throw new RuntimeException ("color must be in the range of 0..127");
-        if (blinkColor < 0 || blinkColor > 127)
-            throw new RuntimeException ("blinkColor must be in the range of 0..127");
+        checkRange (color, blinkColor);
 
         this.color = color;
         this.blinkColor = blinkColor;
@@ -128,4 +125,65 @@ public class LightInfo
         final int codeFast = this.fast ? 1 << 16 : 0;
         this.encoded = codeFast + codeBlinkColor + this.color;
     }
+
+
+    /**
+     * Encode the color and blink states as one integer.
+     *
+     * @param color The color (0-127)
+     * @param blinkColor The blink color (0-127)
+     * @param fast True to blink fast
+     * @return The encoded state
+     */
+    public static int encode (final int color, final int blinkColor, final boolean fast)
+    {
+        checkRange (color, blinkColor);
+
+        return (fast ? 1 << 16 : 0) + (blinkColor << 8) + color;
+    }
+
+
+    /**
+     * Get the color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The color
+     */
+    public static int decodeColor (final int encoded)
+    {
+        return encoded & 0xFF;
+    }
+
+
+    /**
+     * Get the blink color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The blink color
+     */
+    public static int decodeBlinkColor (final int encoded)
+    {
+        return encoded >> 8 & 0xFF;
+    }
+
+
+    /**
+     * Get the fast blink flag from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return True if fast
+     */
+    public static boolean decodeFast (final int encoded)
+    {
+        return (encoded & 1 << 16) != 0;
+    }
+
+
+    private static void checkRange (final int color, final int blinkColor)
+    {
+        if (color < 0 || color > 127)
+            throw new RuntimeException ("color must be in the range of 0..127");
+        if (blinkColor < 0 || blinkColor > 127)
+            throw new RuntimeException ("blinkColor must be in the range of 0..127");
+    }
 }
\ No newline at end of file
@@ -15,17 +15,33 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int     NUM_NOTES        = 128;
 
-    protected final IMidiOutput  output;
-    protected final ColorManager colorManager;
+    private static final int [] [] TRANSLATED_NOTES = new int [NUM_NOTES] [];
+    static
+    {
+        for (int i = 0; i < NUM_NOTES; i++)
+        {
+            TRANSLATED_NOTES[i] = new int []
+            {
+                0,
+                i
+            };
+        }
+    }
 
-    protected LightInfo []       padStates;
+    protected final IMidiOutput    output;
+    protected final ColorManager   colorManager;
 
-    protected int                rows;
-    protected int                cols;
-    protected int                startNote;
-    protected int                endNote;
+    // The color and blink states of the pads encoded like in LightInfo. Note: Even if the grid
+    // contains less than 128 pads it is more efficient to use the 128 note values the pads
+    // understand
+    protected final int []         padStates        = new int [NUM_NOTES];
+
+    protected int                  rows;
+    protected int                  cols;
+    protected int                  startNote;
+    protected int                  endNote;
 
 
     /**
@@ -57,12 +73,6 @@ public class PadGridImpl implements IPadGrid
         this.cols = cols;
         this.startNote = startNote;
         this.endNote = this.startNote + this.rows * this.cols - 1;
-
-        // Note: Even if the grid contains less than 128 pads it is more efficient to use
-        // the 128 note values the pads understand
-        this.padStates = new LightInfo [NUM_NOTES];
-        for (int i = 0; i < NUM_NOTES; i++)
-            this.padStates[i] = new LightInfo ();
     }
 
 
@@ -141,7 +151,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note] = LightInfo.encode (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
     }
 
 
@@ -149,7 +159,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void forceFlush (final int note)
     {
-        this.padStates[note].setColors (0, 0, false);
+        this.padStates[note] = 0;
     }
 
 
@@ -158,13 +168,24 @@ public class PadGridImpl implements IPadGrid
     public void forceFlush ()
     {
         for (int i = this.startNote; i <= this.endNote; i++)
-            this.padStates[i].setColors (0, 0, false);
+            this.padStates[i] = 0;
     }
 
 
     /** {@inheritDoc} */
     @Override
     public LightInfo getLightInfo (final int note)
+    {
+        final int state = this.padStates[note];
+        final LightInfo info = new LightInfo ();
+        info.setColors (LightInfo.decodeColor (state), LightInfo.decodeBlinkColor (state), LightInfo.decodeFast (state));
+        return info;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLightState (final int note)
     {
         return this.padStates[note];
     }
@@ -174,13 +195,12 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = this.padStates[note];
+        final int state = this.padStates[note];
         final int [] translated = this.translateToController (note);
-        final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
-        final int blinkColor = state.getBlinkColor ();
-        if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+        this.sendNoteState (translated[0], translated[1], LightInfo.decodeColor (state));
+        final int blinkColor = LightInfo.decodeBlinkColor (state);
+        if (blinkColor > 0)
+            this.sendBlinkState (translated[0], translated[1], blinkColor, LightInfo.decodeFast (state));
     }
 
 
@@ -216,10 +236,18 @@ public class PadGridImpl implements IPadGrid
     public void turnOff ()
     {
         final int color = this.colorManager.getColorIndex (GRID_OFF);
-        for (int i = this.startNote; i <= this.endNote; i++)
+        this.output.beginBatch ();
+        try
+        {
+            for (int i = this.startNote; i <= this.endNote; i++)
+            {
+                this.light (i, color, -1, false);
+                this.sendState (i);
+            }
+        }
+        finally
         {
-            this.light (i, color, -1, false);
-            this.sendState (i);
+            this.output.endBatch ();
         }
     }
 
@@ -236,11 +264,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public int [] translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            note
-        };
+        return TRANSLATED_NOTES[note];
     }
 
 
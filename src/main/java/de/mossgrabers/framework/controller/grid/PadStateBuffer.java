@@ -0,0 +1,123 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * Collects the changed states of pads until they are sent to the device. The state of each pad is
+ * stored as one integer (encoded like in {@link LightInfo}) and the changed pads are flagged in a
+ * bitset. Iterate the changed pads in ascending order with:
+ *
+ * <pre>
+ * for (int note = buffer.nextChanged (0); note &gt;= 0; note = buffer.nextChanged (note + 1))
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadStateBuffer
+{
+    private static final int NUM_NOTES = 128;
+
+    private final int []     states    = new int [NUM_NOTES];
+    private final long []    changed   = new long [NUM_NOTES / 64];
+
+
+    /**
+     * Set the color of a pad. Keeps the blink state.
+     *
+     * @param note The note of the pad (0-127)
+     * @param color The color
+     */
+    public void setColor (final int note, final int color)
+    {
+        final int state = this.states[note];
+        this.states[note] = LightInfo.encode (color, LightInfo.decodeBlinkColor (state), LightInfo.decodeFast (state));
+        this.markChanged (note);
+    }
+
+
+    /**
+     * Set the blink state of a pad. Keeps the color.
+     *
+     * @param note The note of the pad (0-127)
+     * @param blinkColor The blink color
+     * @param fast True to blink fast
+     */
+    public void setBlink (final int note, final int blinkColor, final boolean fast)
+    {
+        this.states[note] = LightInfo.encode (LightInfo.decodeColor (this.states[note]), blinkColor, fast);
+        this.markChanged (note);
+    }
+
+
+    /**
+     * Get the state of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @return The state encoded like in {@link LightInfo#getEncoded()}
+     */
+    public int getState (final int note)
+    {
+        return this.states[note];
+    }
+
+
+    /**
+     * Get the next changed pad.
+     *
+     * @param note The note of the pad from where to start searching (inclusive)
+     * @return The note of the next changed pad or -1 if there are no more changed pads
+     */
+    public int nextChanged (final int note)
+    {
+        if (note >= NUM_NOTES)
+            return -1;
+
+        int index = note >> 6;
+        long bits = this.changed[index] & -1L << (note & 63);
+        while (true)
+        {
+            if (bits != 0)
+                return index << 6 | Long.numberOfTrailingZeros (bits);
+            index++;
+            if (index == this.changed.length)
+                return -1;
+            bits = this.changed[index];
+        }
+    }
+
+
+    /**
+     * Returns true if no pad has changed.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        for (final long bits: this.changed)
+        {
+            if (bits != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Reset the states of all changed pads and clear the change flags.
+     */
+    public void clear ()
+    {
+        for (int note = this.nextChanged (0); note >= 0; note = this.nextChanged (note + 1))
+            this.states[note] = 0;
+        for (int i = 0; i < this.changed.length; i++)
+            this.changed[i] = 0;
+    }
+
+
+    private void markChanged (final int note)
+    {
+        this.changed[note >> 6] |= 1L << (note & 63);
+    }
+}
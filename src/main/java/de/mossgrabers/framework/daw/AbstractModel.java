@@ -30,6 +30,7 @@ public abstract class AbstractModel implements IModel
     protected final Scales                          scales;
     protected final ColorManager                    colorManager;
     protected final IValueChanger                   valueChanger;
+    protected final ChangeTracker                   changeTracker;
     protected final ModelSetup                      modelSetup;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers = new HashSet<> ();
 
@@ -67,6 +68,7 @@ public abstract class AbstractModel implements IModel
         this.host = dataSetup.getHost ();
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
+        this.changeTracker = dataSetup.getChangeTracker ();
         this.scales = scales;
     }
 
@@ -87,6 +89,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ChangeTracker getChangeTracker ()
+    {
+        return this.changeTracker;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IArranger getArranger ()
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * The categories of model data for which changes are tracked, see {@link ChangeTracker}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ChangeCategory
+{
+    /** The data of tracks and their mixer parameters (volume, panorama, sends, ...). */
+    MIXER,
+    /** The clip launcher slots and scenes. */
+    SLOTS,
+    /** The data of devices, their layers and parameters. */
+    DEVICE,
+    /** The notes and settings of the cursor clips. */
+    CLIP,
+    /** The transport (play state, tempo, position, ...). */
+    TRANSPORT
+}
@@ -0,0 +1,87 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Counts the changes of the model data for each change category. The DAW implementations increase
+ * the epoch of a category whenever one of their observed values changes. Consumers (e.g. a view
+ * drawing the grid) remember the epochs they have last seen and can skip their work if none of the
+ * categories they depend on has changed since then.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChangeTracker
+{
+    private static final ChangeCategory [] CATEGORIES = ChangeCategory.values ();
+
+    private final AtomicLongArray          epochs     = new AtomicLongArray (CATEGORIES.length);
+
+
+    /**
+     * Create an array for storing the seen epochs of all categories. All entries are marked as not
+     * seen yet.
+     *
+     * @return The array
+     */
+    public static long [] createEpochs ()
+    {
+        final long [] seenEpochs = new long [CATEGORIES.length];
+        Arrays.fill (seenEpochs, -1);
+        return seenEpochs;
+    }
+
+
+    /**
+     * Signal that some data of the given category has changed.
+     *
+     * @param category The category
+     */
+    public void markChanged (final ChangeCategory category)
+    {
+        this.epochs.incrementAndGet (category.ordinal ());
+    }
+
+
+    /**
+     * Get the current epoch of a category.
+     *
+     * @param category The category
+     * @return The number of changes of the category
+     */
+    public long getEpoch (final ChangeCategory category)
+    {
+        return this.epochs.get (category.ordinal ());
+    }
+
+
+    /**
+     * Test if one of the given categories has changed since the seen epochs were updated the last
+     * time. Afterwards, the seen epochs of the categories are set to the current ones.
+     *
+     * @param categories The categories to check
+     * @param seenEpochs The array with the seen epochs, see {@link #createEpochs()}
+     * @return True if at least one of the categories has changed
+     */
+    public boolean update (final Set<ChangeCategory> categories, final long [] seenEpochs)
+    {
+        boolean hasChanged = false;
+        for (final ChangeCategory category: categories)
+        {
+            final int index = category.ordinal ();
+            final long epoch = this.epochs.get (index);
+            if (seenEpochs[index] != epoch)
+            {
+                seenEpochs[index] = epoch;
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+}
@@ -0,0 +1,271 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * A downsampled summary of the notes of a whole clip for drawing an overview. The steps of the
+ * clip are combined into buckets on several zoom levels, level n combines 2^n steps. For each
+ * bucket the lowest and highest row with a note and the maximum velocity of the notes starting in
+ * the bucket are stored. A change of a step only updates the buckets which contain it, therefore
+ * drawing an overview only takes as many lookups as buckets are visible. The overview is updated by
+ * the host thread and is not synchronized, components which draw on another thread must copy the
+ * data they need when they are created.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClipOverview
+{
+    /** The number of zoom levels. */
+    public static final int  NUM_LEVELS = 12;
+
+    private static final int NUM_ROWS   = 128;
+
+    private final byte [] [] cells      = new byte [NUM_ROWS] [];
+    private final byte [] [] velocities = new byte [NUM_LEVELS] [0];
+    private final byte [] [] lowerRows  = new byte [NUM_LEVELS] [0];
+    private final byte [] [] upperRows  = new byte [NUM_LEVELS] [0];
+
+
+    /**
+     * Update a step.
+     *
+     * @param step The step counted from the start of the clip
+     * @param row The row
+     * @param velocity The maximum velocity (1-127) of the notes which start at the step, 1 if notes
+     *            only continue playing at the step, 0 if there is no note
+     */
+    public void update (final int step, final int row, final int velocity)
+    {
+        if (step < 0 || row < 0 || row >= NUM_ROWS)
+            return;
+
+        final int value = Math.max (0, Math.min (127, velocity));
+        byte [] rowCells = this.cells[row];
+        if (rowCells == null || step >= rowCells.length)
+        {
+            if (value == 0)
+                return;
+            rowCells = rowCells == null ? new byte [Math.max (64, step + 1)] : Arrays.copyOf (rowCells, Math.max (2 * rowCells.length, step + 1));
+            this.cells[row] = rowCells;
+        }
+        if (rowCells[step] == value)
+            return;
+        rowCells[step] = (byte) value;
+
+        // Summarize the column of the step
+        int maxVelocity = 0;
+        int lower = -1;
+        int upper = -1;
+        for (int r = 0; r < NUM_ROWS; r++)
+        {
+            final byte [] c = this.cells[r];
+            if (c == null || step >= c.length || c[step] == 0)
+                continue;
+            if (lower == -1)
+                lower = r;
+            upper = r;
+            maxVelocity = Math.max (maxVelocity, c[step]);
+        }
+
+        if (this.setBucket (0, step, maxVelocity, lower, upper))
+            this.updateLevels (step, 1);
+    }
+
+
+    /**
+     * Remove all steps starting at the given step.
+     *
+     * @param fromStep The first step to remove
+     */
+    public void clear (final int fromStep)
+    {
+        final int from = Math.max (0, fromStep);
+        for (final byte [] rowCells: this.cells)
+        {
+            if (rowCells != null && from < rowCells.length)
+                Arrays.fill (rowCells, from, rowCells.length, (byte) 0);
+        }
+
+        for (int level = 0; level < NUM_LEVELS; level++)
+        {
+            // The bucket which contains the first removed step might still contain other steps
+            final int first = from >> level;
+            final int start = level == 0 ? first : first + 1;
+            final int size = this.velocities[level].length;
+            if (start < size)
+            {
+                Arrays.fill (this.velocities[level], start, size, (byte) 0);
+                Arrays.fill (this.lowerRows[level], start, size, (byte) -1);
+                Arrays.fill (this.upperRows[level], start, size, (byte) -1);
+            }
+            if (level > 0)
+                this.combine (level, first);
+        }
+    }
+
+
+    /**
+     * Get the zoom level to use for displaying a number of steps in a number of columns, e.g.
+     * pixels. This is the most detailed level which does not need more buckets than columns.
+     *
+     * @param numSteps The number of steps to display
+     * @param numColumns The number of available columns
+     * @return The level
+     */
+    public int getLevel (final int numSteps, final int numColumns)
+    {
+        final int columns = Math.max (1, numColumns);
+        int level = 0;
+        while (level < NUM_LEVELS - 1 && ((numSteps - 1) >> level) + 1 > columns)
+            level++;
+        return level;
+    }
+
+
+    /**
+     * Get the maximum velocity of the notes in a bucket.
+     *
+     * @param level The zoom level
+     * @param bucket The index of the bucket, the bucket contains the steps bucket * 2^level to
+     *            (bucket + 1) * 2^level - 1
+     * @return The maximum velocity (1-127) of the notes which start in the bucket, 1 if notes only
+     *         continue playing in the bucket, 0 if the bucket is empty
+     */
+    public int getVelocity (final int level, final int bucket)
+    {
+        final byte [] values = this.velocities[level];
+        return bucket >= 0 && bucket < values.length ? values[bucket] : 0;
+    }
+
+
+    /**
+     * Get the lowest row which contains a note in a bucket.
+     *
+     * @param level The zoom level
+     * @param bucket The index of the bucket
+     * @return The lowest row or -1 if the bucket is empty
+     */
+    public int getLowerRow (final int level, final int bucket)
+    {
+        final byte [] values = this.lowerRows[level];
+        return bucket >= 0 && bucket < values.length ? values[bucket] : -1;
+    }
+
+
+    /**
+     * Get the highest row which contains a note in a bucket.
+     *
+     * @param level The zoom level
+     * @param bucket The index of the bucket
+     * @return The highest row or -1 if the bucket is empty
+     */
+    public int getUpperRow (final int level, final int bucket)
+    {
+        final byte [] values = this.upperRows[level];
+        return bucket >= 0 && bucket < values.length ? values[bucket] : -1;
+    }
+
+
+    /**
+     * Get the lowest row which contains a note in the whole clip.
+     *
+     * @return The lowest row or -1 if the overview is empty
+     */
+    public int getLowerRow ()
+    {
+        final int level = NUM_LEVELS - 1;
+        int lower = -1;
+        for (int bucket = 0; bucket < this.lowerRows[level].length; bucket++)
+        {
+            final int row = this.lowerRows[level][bucket];
+            if (row >= 0 && (lower == -1 || row < lower))
+                lower = row;
+        }
+        return lower;
+    }
+
+
+    /**
+     * Get the highest row which contains a note in the whole clip.
+     *
+     * @return The highest row or -1 if the overview is empty
+     */
+    public int getUpperRow ()
+    {
+        final int level = NUM_LEVELS - 1;
+        int upper = -1;
+        for (int bucket = 0; bucket < this.upperRows[level].length; bucket++)
+            upper = Math.max (upper, this.upperRows[level][bucket]);
+        return upper;
+    }
+
+
+    /**
+     * Propagate the change of a bucket to the coarser levels. Stops as soon as a bucket does not
+     * change anymore.
+     *
+     * @param step The changed step
+     * @param fromLevel The first level to update
+     */
+    private void updateLevels (final int step, final int fromLevel)
+    {
+        for (int level = fromLevel; level < NUM_LEVELS; level++)
+        {
+            if (!this.combine (level, step >> level))
+                return;
+        }
+    }
+
+
+    /**
+     * Calculate a bucket from its two buckets on the next finer level.
+     *
+     * @param level The level of the bucket
+     * @param bucket The index of the bucket
+     * @return True if the bucket has changed
+     */
+    private boolean combine (final int level, final int bucket)
+    {
+        final int left = 2 * bucket;
+        final int right = left + 1;
+        final int finer = level - 1;
+
+        final int maxVelocity = Math.max (this.getVelocity (finer, left), this.getVelocity (finer, right));
+        final int lowerLeft = this.getLowerRow (finer, left);
+        final int lowerRight = this.getLowerRow (finer, right);
+        final int lower = lowerLeft == -1 || (lowerRight != -1 && lowerRight < lowerLeft) ? lowerRight : lowerLeft;
+        final int upper = Math.max (this.getUpperRow (finer, left), this.getUpperRow (finer, right));
+        return this.setBucket (level, bucket, maxVelocity, lower, upper);
+    }
+
+
+    private boolean setBucket (final int level, final int bucket, final int velocity, final int lower, final int upper)
+    {
+        final int size = this.velocities[level].length;
+        if (bucket >= size)
+        {
+            if (velocity == 0)
+                return false;
+
+            final int newSize = Math.max (Math.max (64 >> Math.min (level, 6), 2 * size), bucket + 1);
+            this.velocities[level] = Arrays.copyOf (this.velocities[level], newSize);
+            this.lowerRows[level] = Arrays.copyOf (this.lowerRows[level], newSize);
+            this.upperRows[level] = Arrays.copyOf (this.upperRows[level], newSize);
+            Arrays.fill (this.lowerRows[level], size, newSize, (byte) -1);
+            Arrays.fill (this.upperRows[level], size, newSize, (byte) -1);
+        }
+
+        if (this.velocities[level][bucket] == velocity && this.lowerRows[level][bucket] == lower && this.upperRows[level][bucket] == upper)
+            return false;
+
+        this.velocities[level][bucket] = (byte) velocity;
+        this.lowerRows[level][bucket] = (byte) lower;
+        this.upperRows[level][bucket] = (byte) upper;
+        return true;
+    }
+}
@@ -5,6 +5,10 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorManager;
+
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -72,8 +76,12 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private String  name;
-    private ColorEx color;
+    private static final int                    MAX_CACHE_SIZE = 4096;
+    private static final Map<ColorEx, DAWColor> NEAREST_COLORS = new HashMap<> ();
+
+    private String                              name;
+    private ColorEx                             color;
+    private final int                           colorHandle;
 
 
     /**
@@ -86,6 +94,7 @@ public enum DAWColor
     {
         this.name = name;
         this.color = color;
+        this.colorHandle = ColorManager.getColorHandle (this.name ());
     }
 
 
@@ -111,6 +120,17 @@ public enum DAWColor
     }
 
 
+    /**
+     * Get the handle of the color ID.
+     *
+     * @return The handle, see {@link ColorManager#getColorHandle(String)}
+     */
+    public int getColorHandle ()
+    {
+        return this.colorHandle;
+    }
+
+
     /**
      * Get the RGB color for a color constant ID.
      *
@@ -145,7 +165,34 @@ public enum DAWColor
      */
     public static String getColorIndex (final ColorEx color)
     {
-        return getColorIndex (color.toDoubleRGB ());
+        return getDAWColor (color).name ();
+    }
+
+
+    /**
+     * Get the DAW color that is closest to the given color. The result is cached, the search is
+     * only done once for each color.
+     *
+     * @param color The color
+     * @return The closest DAW color or COLOR_OFF if none is close
+     */
+    public static DAWColor getDAWColor (final ColorEx color)
+    {
+        synchronized (NEAREST_COLORS)
+        {
+            final DAWColor cached = NEAREST_COLORS.get (color);
+            if (cached != null)
+                return cached;
+        }
+
+        final DAWColor nearest = findNearest (color);
+        synchronized (NEAREST_COLORS)
+        {
+            if (NEAREST_COLORS.size () >= MAX_CACHE_SIZE)
+                NEAREST_COLORS.clear ();
+            NEAREST_COLORS.put (color, nearest);
+        }
+        return nearest;
     }
 
 
@@ -170,11 +217,22 @@ public enum DAWColor
      * @return The ID or the COLOR_OFF ID if none is mapped
      */
     public static String getColorIndex (final double red, final double green, final double blue)
+    {
+        return getColorIndex (new ColorEx (red, green, blue));
+    }
+
+
+    /**
+     * Searches the DAW color which is closest to the given color.
+     *
+     * @param color The color
+     * @return The closest DAW color or COLOR_OFF if none is close
+     */
+    private static DAWColor findNearest (final ColorEx color)
     {
         final DAWColor [] values = DAWColor.values ();
         DAWColor cid = values[0];
         double minError = 5.0;
-        final ColorEx color = new ColorEx (red, green, blue);
         for (int i = 1; i < values.length; i++)
         {
             final double error = ColorEx.calcDistance (values[i].getColor (), color);
@@ -184,6 +242,6 @@ public enum DAWColor
                 minError = error;
             }
         }
-        return cid.name ();
+        return cid;
     }
 }
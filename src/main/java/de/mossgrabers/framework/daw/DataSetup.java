@@ -18,6 +18,7 @@ public class DataSetup
     private final IHost         host;
     private final IValueChanger valueChanger;
     private final ColorManager  colorManager;
+    private final ChangeTracker changeTracker = new ChangeTracker ();
 
     private ITransport          transport;
 
@@ -59,6 +60,17 @@ public class DataSetup
     }
 
 
+    /**
+     * Get the tracker for the changes of the model data.
+     *
+     * @return The change tracker
+     */
+    public ChangeTracker getChangeTracker ()
+    {
+        return this.changeTracker;
+    }
+
+
     /**
      * Get the color manager.
      *
@@ -36,6 +36,14 @@ public interface IModel
     IValueChanger getValueChanger ();
 
 
+    /**
+     * Get the tracker for the changes of the model data.
+     *
+     * @return The change tracker
+     */
+    ChangeTracker getChangeTracker ();
+
+
     /**
      * Get the project.
      *
@@ -319,6 +327,12 @@ public interface IModel
     void ensureClip ();
 
 
+    /**
+     * Update cycle. Sends the collected changes to the DAW, e.g. the step edits of the note clips.
+     */
+    void flush ();
+
+
     /**
      * Returns true if there is a selected audio clip which can be split.
      *
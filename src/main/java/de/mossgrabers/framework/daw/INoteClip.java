@@ -286,6 +286,21 @@ public interface INoteClip extends IClip
     void edit (int channel, int step, int row, boolean enable);
 
 
+    /**
+     * Start a transaction of step edits. Until the transaction is committed, the changes of the
+     * update and change methods are only collected. If the same property of a step is changed
+     * several times, only the last value is sent.
+     */
+    void startStepEdits ();
+
+
+    /**
+     * Commit the transaction of step edits. The collected changes are sent to the DAW with the next
+     * flush.
+     */
+    void commitStepEdits ();
+
+
     /**
      * Clear a row (note).
      *
@@ -305,6 +320,52 @@ public interface INoteClip extends IClip
     boolean hasRowData (int channel, int row);
 
 
+    /**
+     * Check if any note is set at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return 0: All notes are off, 1: at least 1 note continues playing, 2: at least 1 note starts
+     *         at this step, see the constants in IStepInfo
+     */
+    int getStepState (int channel, int step);
+
+
+    /**
+     * Get the next step which is covered by a note. The steps are relative to the current edit
+     * page. If the clip note index is enabled (see ModelSetup) the search continues beyond the
+     * monitored page, otherwise it is limited to it.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param fromStep The step to start searching from (inclusive)
+     * @return The step or -1 if there is no further note
+     */
+    int getNextStepWithData (int channel, int row, int fromStep);
+
+
+    /**
+     * Get the previous step which is covered by a note. The steps are relative to the current edit
+     * page. If the clip note index is enabled (see ModelSetup) the search continues beyond the
+     * monitored page, otherwise it is limited to it.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param fromStep The step to start searching from (inclusive)
+     * @return The step or -1 if there is no previous note
+     */
+    int getPreviousStepWithData (int channel, int row, int fromStep);
+
+
+    /**
+     * Get the overview of the notes of the whole clip. The overview is only filled if the note
+     * index is enabled, see {@link ModelSetup#setHasClipNoteIndex(boolean)}.
+     *
+     * @return The overview
+     */
+    ClipOverview getOverview ();
+
+
     /**
      * Get the lowest row (note) which contains data, ignores the MIDI channel.
      *
@@ -25,6 +25,7 @@ public class ModelSetup
     private int     numMarkers             = 0;
     private int     numUserPageSize        = 8;
     private int     numUserPages           = 8;
+    private boolean hasClipNoteIndex       = false;
 
 
     /**
@@ -343,4 +344,29 @@ public class ModelSetup
     {
         this.numUserPageSize = numUserPageSize;
     }
+
+
+    /**
+     * Get if the note clips should index the notes of the whole clip and not only of the monitored
+     * page.
+     *
+     * @return True if the whole clip is indexed
+     */
+    public boolean hasClipNoteIndex ()
+    {
+        return this.hasClipNoteIndex;
+    }
+
+
+    /**
+     * Set if the note clips should index the notes of the whole clip and not only of the monitored
+     * page. The index is filled by scanning the clip in the background, which costs one additional
+     * clip observer, shared by all note clips of the model.
+     *
+     * @param hasClipNoteIndex True to index the whole clip
+     */
+    public void setHasClipNoteIndex (final boolean hasClipNoteIndex)
+    {
+        this.hasClipNoteIndex = hasClipNoteIndex;
+    }
 }
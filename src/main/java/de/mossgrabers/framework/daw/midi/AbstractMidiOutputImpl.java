@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import java.util.Arrays;
+
+
 /**
  * An abstract implementation for a midi output
  *
@@ -11,11 +14,114 @@ package de.mossgrabers.framework.daw.midi;
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    private final MidiTransmitQueue transmitQueue = new MidiTransmitQueue (this);
+
+    private final Object            batchLock     = new Object ();
+    private int []                  batch         = new int [128];
+    private int                     batchLength;
+    private int                     batchDepth;
+    private volatile Thread         batchOwner;
+    private volatile boolean        isCollapsing;
+    private final long []           sentKeys      = new long [(MidiTransmitQueue.NUM_KEYS + 63) / 64];
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCollapsing (final boolean isCollapsing)
+    {
+        synchronized (this.batchLock)
+        {
+            this.isCollapsing = isCollapsing;
+        }
+        this.transmitQueue.setCollapsing (isCollapsing);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginBatch ()
+    {
+        // Without collapsing, a batch would only delay the messages
+        if (!this.isCollapsing)
+            return;
+
+        synchronized (this.batchLock)
+        {
+            // Only one thread can own the batch, the messages of other threads are sent directly
+            final Thread thread = Thread.currentThread ();
+            if (this.batchOwner == null)
+                this.batchOwner = thread;
+            else if (this.batchOwner != thread)
+                return;
+            this.batchDepth++;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void endBatch ()
+    {
+        if (this.batchOwner != Thread.currentThread ())
+            return;
+
+        synchronized (this.batchLock)
+        {
+            if (this.batchDepth == 0)
+                return;
+            this.batchDepth--;
+            if (this.batchDepth == 0)
+            {
+                this.flushBatch ();
+                this.batchOwner = null;
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.sendSysex (data, TransmitPriority.BULK);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data, final TransmitPriority priority)
+    {
+        // Keep the order of the messages
+        this.flushOwnBatch ();
+        this.transmitQueue.sendSysex (data, priority);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.flushOwnBatch ();
+        if (this.transmitQueue.isLimited ())
+            this.transmitQueue.sendSysex (SysexBuilder.fromHex (data), TransmitPriority.BULK);
+        else
+            this.sendSysexData (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MidiTransmitQueue getTransmitQueue ()
+    {
+        return this.transmitQueue;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
     {
-        this.sendMidiShort (0xB0, cc, value);
+        this.sendShort (0xB0, cc, value);
     }
 
 
@@ -23,7 +129,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendCCEx (final int channel, final int cc, final int value)
     {
-        this.sendMidiShort (0xB0 + channel, cc, value);
+        this.sendShort (0xB0 + channel, cc, value);
     }
 
 
@@ -31,7 +137,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNote (final int note, final int velocity)
     {
-        this.sendMidiShort (0x90, note, velocity);
+        this.sendShort (0x90, note, velocity);
     }
 
 
@@ -39,7 +145,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNoteEx (final int channel, final int note, final int velocity)
     {
-        this.sendMidiShort (0x90 + channel, note, velocity);
+        this.sendShort (0x90 + channel, note, velocity);
     }
 
 
@@ -47,7 +153,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0, data1, data2);
+        this.sendShort (0xA0, data1, data2);
     }
 
 
@@ -55,7 +161,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0 + channel, data1, data2);
+        this.sendShort (0xA0 + channel, data1, data2);
     }
 
 
@@ -63,7 +169,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0, data1, data2);
+        this.sendShort (0xD0, data1, data2);
     }
 
 
@@ -71,7 +177,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0 + channel, data1, data2);
+        this.sendShort (0xD0 + channel, data1, data2);
     }
 
 
@@ -79,7 +185,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0, data1, data2);
+        this.sendShort (0xE0, data1, data2);
     }
 
 
@@ -87,7 +193,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0 + channel, data1, data2);
+        this.sendShort (0xE0 + channel, data1, data2);
     }
 
 
@@ -105,10 +211,116 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     {
         this.sendCCEx (channel, 0, bankMSB);
         this.sendCCEx (channel, 32, bankLSB);
-        this.sendMidiShort (0xC0 + channel, value, 0);
+        this.sendShort (0xC0 + channel, value, 0);
     }
 
 
+    /**
+     * Send a short message or add it to the batch if the calling thread has one open.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    private void sendShort (final int status, final int data1, final int data2)
+    {
+        // Only the thread which owns the batch needs the lock, the owner is only set by itself
+        if (this.batchOwner == Thread.currentThread ())
+        {
+            synchronized (this.batchLock)
+            {
+                if (this.batchDepth > 0 && status >= 0x80 && status < 0xF0)
+                {
+                    if (this.batchLength == this.batch.length)
+                        this.batch = Arrays.copyOf (this.batch, this.batch.length * 2);
+                    this.batch[this.batchLength++] = status << 16 | (data1 & 0x7F) << 8 | data2 & 0x7F;
+                    return;
+                }
+
+                this.flushBatch ();
+            }
+        }
+        this.transmitQueue.sendShort (status, data1, data2);
+    }
+
+
+    /**
+     * Send the collected messages if the calling thread owns the batch.
+     */
+    private void flushOwnBatch ()
+    {
+        if (this.batchOwner != Thread.currentThread ())
+            return;
+
+        synchronized (this.batchLock)
+        {
+            this.flushBatch ();
+        }
+    }
+
+
+    /**
+     * Send the messages of the batch in their order. If collapsing is enabled and a control is
+     * updated more than once only the latest message is sent. Must be called while holding the
+     * batch lock.
+     */
+    private void flushBatch ()
+    {
+        if (this.batchLength == 0)
+            return;
+
+        if (!this.isCollapsing)
+        {
+            for (int i = 0; i < this.batchLength; i++)
+            {
+                final int message = this.batch[i];
+                this.transmitQueue.sendShort (message >> 16, message >> 8 & 0x7F, message & 0x7F);
+            }
+            this.batchLength = 0;
+            return;
+        }
+
+        // Mark all but the last message of each key as superseded by walking backwards
+        for (int i = this.batchLength - 1; i >= 0; i--)
+        {
+            final int message = this.batch[i];
+            final int key = MidiTransmitQueue.getKey (message >> 16, message >> 8 & 0x7F);
+            final long mask = 1L << (key & 63);
+            if ((this.sentKeys[key >> 6] & mask) == 0)
+                this.sentKeys[key >> 6] |= mask;
+            else
+                this.batch[i] = -1;
+        }
+
+        for (int i = 0; i < this.batchLength; i++)
+        {
+            final int message = this.batch[i];
+            if (message < 0)
+                continue;
+            this.transmitQueue.sendShort (message >> 16, message >> 8 & 0x7F, message & 0x7F);
+            final int key = MidiTransmitQueue.getKey (message >> 16, message >> 8 & 0x7F);
+            this.sentKeys[key >> 6] &= ~(1L << (key & 63));
+        }
+        this.batchLength = 0;
+    }
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send
+     */
+    protected abstract void sendSysexData (final byte [] data);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    protected abstract void sendSysexData (final String data);
+
+
     /**
      * Sends a MIDI message to the hardware device.
      *
@@ -135,10 +135,56 @@ public interface IMidiOutput
     void sendSysex (byte [] data);
 
 
+    /**
+     * Send a system exclusive message to the output.
+     *
+     * @param data The data to send
+     * @param priority The priority of the message if the bandwidth of the output is limited
+     */
+    void sendSysex (byte [] data, TransmitPriority priority);
+
+
     /**
      * Send a system exclusive message to the output.
      *
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Enable or disable dropping of superseded short messages. If enabled and a control (e.g. the
+     * same note or CC on the same channel) is updated more than once in a batch or while waiting in
+     * the transmit queue, only the latest message is sent. Only enable this for devices whose
+     * messages are independent per note and CC. Disabled by default.
+     *
+     * @param isCollapsing True to drop superseded messages
+     */
+    void setCollapsing (boolean isCollapsing);
+
+
+    /**
+     * Start collecting short messages of the calling thread instead of sending them. Only has an
+     * effect if collapsing is enabled, see {@link #setCollapsing(boolean)}, otherwise the messages
+     * are sent directly. The collected messages are sent in their order when the batch is ended,
+     * superseded messages are dropped. Batches can be nested, the messages are sent when the
+     * outermost batch ends. A system exclusive message sent by the same thread sends the collected
+     * messages first to keep the order. Messages of other threads are sent directly and do not
+     * touch the batch.
+     */
+    void beginBatch ();
+
+
+    /**
+     * End a batch started with {@link #beginBatch()} and send the collected messages.
+     */
+    void endBatch ();
+
+
+    /**
+     * Get the queue which limits the bandwidth of the output.
+     *
+     * @return The transmit queue
+     */
+    MidiTransmitQueue getTransmitQueue ();
 }
\ No newline at end of file
@@ -0,0 +1,520 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.controller.display.DisplayScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Limits the number of bytes per second which are sent to a midi output. If the limit is reached,
+ * messages are queued and sent by priority: short messages (faders, LEDs, pads) before display
+ * text before bulk system exclusive data. Short messages are sent in the order in which they were
+ * queued. If collapsing is enabled, a queued short message is replaced by a newer one with the same
+ * key (status without note-on/off distinction, channel and - for notes, controllers and polyphonic
+ * aftertouch - the first data byte), since the device only needs to display the latest value. This
+ * must only be enabled for devices whose messages are independent per key, protocols which send
+ * e.g. an address and a data controller (like HUI) need all messages in their order. Without a
+ * limit all messages are sent directly.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiTransmitQueue
+{
+    static final int                      NUM_KEYS         = 0x70 << 7;
+    private static final int              INITIAL_CAPACITY = 256;
+    private static final int              BURST_DIVIDER    = 20;
+    private static final long             ONE_SECOND       = TimeUnit.SECONDS.toNanos (1);
+
+    private final AbstractMidiOutputImpl  output;
+    private final Object                  lock             = new Object ();
+
+    private volatile int                  bytesPerSecond;
+    private double                        tokens;
+    private double                        burst;
+    private long                          lastRefill;
+
+    private boolean                       isCollapsing;
+    // The pending message of a key: (status << 16 | data1 << 8 | data2) + 1 or 0 if not queued
+    private int []                        shortValues;
+    private int []                        shortMessages;
+    private long []                       shortTimes;
+    private int                           shortHead;
+    private int                           shortCount;
+
+    private final List<Deque<SysexEntry>> sysexQueues      = new ArrayList<> ();
+
+    private ScheduledExecutorService      executor;
+    private boolean                       isDrainRequested;
+
+    private long                          sentMessages;
+    private long                          collapsedMessages;
+    private double                        averageLatency;
+    private double                        maxLatency;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which to send the messages
+     */
+    public MidiTransmitQueue (final AbstractMidiOutputImpl output)
+    {
+        this.output = output;
+
+        for (int i = 0; i < TransmitPriority.values ().length; i++)
+            this.sysexQueues.add (new ArrayDeque<> ());
+    }
+
+
+    /**
+     * Set the maximum number of bytes to send per second.
+     *
+     * @param bytesPerSecond The bytes per second, 0 for no limit
+     */
+    public void setLimit (final int bytesPerSecond)
+    {
+        synchronized (this.lock)
+        {
+            this.bytesPerSecond = Math.max (0, bytesPerSecond);
+            this.burst = Math.max (3, this.bytesPerSecond / (double) BURST_DIVIDER);
+            this.tokens = this.burst;
+            this.lastRefill = System.nanoTime ();
+
+            if (this.bytesPerSecond == 0)
+            {
+                // Send everything which is still queued
+                this.tokens = Double.MAX_VALUE;
+                this.drainLocked ();
+                this.tokens = this.burst;
+
+                if (this.executor != null)
+                {
+                    DisplayScheduler.release ();
+                    this.executor = null;
+                    this.isDrainRequested = false;
+                }
+                return;
+            }
+
+            // Queued messages are drained by the shared scheduling thread, since messages can be
+            // queued from any thread and the host task scheduler must only be called by the host
+            if (this.executor == null)
+                this.executor = DisplayScheduler.acquire ();
+
+            if (this.shortValues == null)
+            {
+                this.shortValues = new int [NUM_KEYS];
+                this.shortMessages = new int [INITIAL_CAPACITY];
+                this.shortTimes = new long [INITIAL_CAPACITY];
+            }
+        }
+    }
+
+
+    /**
+     * Get the maximum number of bytes to send per second.
+     *
+     * @return The bytes per second, 0 for no limit
+     */
+    public int getLimit ()
+    {
+        return this.bytesPerSecond;
+    }
+
+
+    /**
+     * Returns true if the bandwidth of the output is limited.
+     *
+     * @return True if limited
+     */
+    public boolean isLimited ()
+    {
+        return this.bytesPerSecond > 0;
+    }
+
+
+    /**
+     * Enable or disable collapsing of queued short messages which address the same control.
+     *
+     * @param isCollapsing True to only send the latest queued message of a control
+     */
+    public void setCollapsing (final boolean isCollapsing)
+    {
+        synchronized (this.lock)
+        {
+            this.isCollapsing = isCollapsing;
+        }
+    }
+
+
+    /**
+     * Returns true if queued short messages which address the same control are collapsed.
+     *
+     * @return True if collapsing is enabled
+     */
+    public boolean isCollapsing ()
+    {
+        synchronized (this.lock)
+        {
+            return this.isCollapsing;
+        }
+    }
+
+
+    /**
+     * Send or queue a short midi message.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void sendShort (final int status, final int data1, final int data2)
+    {
+        // System messages are neither limited nor collapsed
+        if (this.bytesPerSecond == 0 || status < 0x80 || status >= 0xF0)
+        {
+            this.output.sendMidiShort (status, data1, data2);
+            return;
+        }
+
+        synchronized (this.lock)
+        {
+            if (this.bytesPerSecond == 0)
+            {
+                this.output.sendMidiShort (status, data1, data2);
+                return;
+            }
+
+            if (this.getQueueDepthLocked () == 0 && this.consume (getLength (status)))
+            {
+                this.output.sendMidiShort (status, data1, data2);
+                this.sentMessages++;
+                return;
+            }
+
+            this.queueShort (status, data1, data2);
+            this.requestDrain ();
+        }
+    }
+
+
+    /**
+     * Send or queue a system exclusive message.
+     *
+     * @param data The message
+     * @param priority The priority of the message
+     */
+    public void sendSysex (final byte [] data, final TransmitPriority priority)
+    {
+        if (this.bytesPerSecond == 0)
+        {
+            this.output.sendSysexData (data);
+            return;
+        }
+
+        synchronized (this.lock)
+        {
+            if (this.bytesPerSecond == 0)
+            {
+                this.output.sendSysexData (data);
+                return;
+            }
+
+            if (this.getQueueDepthLocked () == 0 && this.consume (data.length))
+            {
+                this.output.sendSysexData (data);
+                this.sentMessages++;
+                return;
+            }
+
+            this.sysexQueues.get (priority.ordinal ()).add (new SysexEntry (data, System.nanoTime ()));
+            this.requestDrain ();
+        }
+    }
+
+
+    /**
+     * Send as many queued messages as the limit allows.
+     */
+    public void drain ()
+    {
+        synchronized (this.lock)
+        {
+            this.isDrainRequested = false;
+            this.drainLocked ();
+            this.requestDrain ();
+        }
+    }
+
+
+    /**
+     * Get the number of queued messages.
+     *
+     * @return The number of messages
+     */
+    public int getQueueDepth ()
+    {
+        synchronized (this.lock)
+        {
+            return this.getQueueDepthLocked ();
+        }
+    }
+
+
+    /**
+     * Get the average time which the sent messages have waited in the queue. Messages which were
+     * sent directly are not included.
+     *
+     * @return The average latency in milliseconds
+     */
+    public double getAverageLatency ()
+    {
+        synchronized (this.lock)
+        {
+            return this.averageLatency;
+        }
+    }
+
+
+    /**
+     * Get the longest time which a sent message has waited in the queue.
+     *
+     * @return The maximum latency in milliseconds
+     */
+    public double getMaxLatency ()
+    {
+        synchronized (this.lock)
+        {
+            return this.maxLatency;
+        }
+    }
+
+
+    /**
+     * Get the number of sent messages while the bandwidth was limited.
+     *
+     * @return The number of messages
+     */
+    public long getSentMessages ()
+    {
+        synchronized (this.lock)
+        {
+            return this.sentMessages;
+        }
+    }
+
+
+    /**
+     * Get the number of queued short messages which were replaced by a newer one.
+     *
+     * @return The number of messages
+     */
+    public long getCollapsedMessages ()
+    {
+        synchronized (this.lock)
+        {
+            return this.collapsedMessages;
+        }
+    }
+
+
+    private int getQueueDepthLocked ()
+    {
+        int depth = this.shortCount;
+        for (final Deque<SysexEntry> queue: this.sysexQueues)
+            depth += queue.size ();
+        return depth;
+    }
+
+
+    private void queueShort (final int status, final int data1, final int data2)
+    {
+        final int message = status << 16 | (data1 & 0x7F) << 8 | data2 & 0x7F;
+        if (this.isCollapsing)
+        {
+            final int key = getKey (status, data1);
+            final boolean isQueued = this.shortValues[key] != 0;
+            this.shortValues[key] = message + 1;
+            if (isQueued)
+            {
+                this.collapsedMessages++;
+                return;
+            }
+        }
+
+        if (this.shortCount == this.shortMessages.length)
+            this.growShortQueue ();
+        final int index = (this.shortHead + this.shortCount) % this.shortMessages.length;
+        this.shortMessages[index] = message;
+        this.shortTimes[index] = System.nanoTime ();
+        this.shortCount++;
+    }
+
+
+    private void growShortQueue ()
+    {
+        final int capacity = this.shortMessages.length;
+        final int [] messages = new int [capacity * 2];
+        final long [] times = new long [capacity * 2];
+        for (int i = 0; i < this.shortCount; i++)
+        {
+            final int index = (this.shortHead + i) % capacity;
+            messages[i] = this.shortMessages[index];
+            times[i] = this.shortTimes[index];
+        }
+        this.shortMessages = messages;
+        this.shortTimes = times;
+        this.shortHead = 0;
+    }
+
+
+    private void drainLocked ()
+    {
+        final long now = System.nanoTime ();
+
+        while (this.shortCount > 0)
+        {
+            int message = this.shortMessages[this.shortHead];
+            final int key = getKey (message >> 16, message >> 8 & 0x7F);
+            // A collapsed control sends its latest value
+            if (this.shortValues[key] != 0)
+                message = this.shortValues[key] - 1;
+            final int status = message >> 16;
+            if (!this.consume (getLength (status)))
+                return;
+            this.output.sendMidiShort (status, message >> 8 & 0x7F, message & 0x7F);
+            this.shortValues[key] = 0;
+            this.messageSent (now - this.shortTimes[this.shortHead]);
+            this.shortHead = (this.shortHead + 1) % this.shortMessages.length;
+            this.shortCount--;
+        }
+
+        for (final Deque<SysexEntry> queue: this.sysexQueues)
+        {
+            SysexEntry entry;
+            while ((entry = queue.peek ()) != null)
+            {
+                if (!this.consume (entry.data.length))
+                    return;
+                queue.poll ();
+                this.output.sendSysexData (entry.data);
+                this.messageSent (now - entry.time);
+            }
+        }
+    }
+
+
+    private void messageSent (final long waitTime)
+    {
+        final double latency = waitTime / 1000000.0;
+        this.averageLatency = this.maxLatency == 0 ? latency : 0.9 * this.averageLatency + 0.1 * latency;
+        this.maxLatency = Math.max (this.maxLatency, latency);
+        this.sentMessages++;
+    }
+
+
+    /**
+     * Take the given number of bytes from the budget. A message which is larger than the maximum
+     * budget is sent as soon as the budget is full and leaves a debt.
+     *
+     * @param length The length of the message in bytes
+     * @return True if the message can be sent
+     */
+    private boolean consume (final int length)
+    {
+        if (this.bytesPerSecond > 0)
+        {
+            final long now = System.nanoTime ();
+            this.tokens = Math.min (this.burst, this.tokens + (now - this.lastRefill) * this.bytesPerSecond / (double) ONE_SECOND);
+            this.lastRefill = now;
+        }
+
+        if (this.tokens < Math.min (length, this.burst))
+            return false;
+        this.tokens -= length;
+        return true;
+    }
+
+
+    /**
+     * Schedule a drain if there are queued messages and none is scheduled yet. The delay is the
+     * time until the budget allows to send the next message. Must be called while holding the
+     * lock.
+     */
+    private void requestDrain ()
+    {
+        if (this.isDrainRequested || this.executor == null || this.getQueueDepthLocked () == 0)
+            return;
+        this.isDrainRequested = true;
+        final double missing = Math.max (0, Math.min (this.getNextLength (), this.burst) - this.tokens);
+        final long delay = Math.max (1, (long) Math.ceil (missing * 1000.0 / this.bytesPerSecond));
+        this.executor.schedule (this::drain, delay, TimeUnit.MILLISECONDS);
+    }
+
+
+    private int getNextLength ()
+    {
+        if (this.shortCount > 0)
+            return getLength (this.shortMessages[this.shortHead] >> 16);
+        for (final Deque<SysexEntry> queue: this.sysexQueues)
+        {
+            final SysexEntry entry = queue.peek ();
+            if (entry != null)
+                return entry.data.length;
+        }
+        return 0;
+    }
+
+
+    /**
+     * Get the key of a channel message. Messages with the same key address the same control.
+     *
+     * @param status The status byte, must be in the range of 0x80 to 0xEF
+     * @param data1 The first data byte
+     * @return The key in the range of 0 to NUM_KEYS - 1
+     */
+    static int getKey (final int status, final int data1)
+    {
+        final int type = status & 0xF0;
+        // Note off and on address the same note
+        final int keyStatus = (type == 0x80 ? 0x90 : type) - 0x80 | status & 0x0F;
+        return keyStatus << 7 | (hasKeyData (type) ? data1 & 0x7F : 0);
+    }
+
+
+    private static boolean hasKeyData (final int type)
+    {
+        return type != 0xC0 && type != 0xD0 && type != 0xE0;
+    }
+
+
+    private static int getLength (final int status)
+    {
+        final int type = status & 0xF0;
+        return type == 0xC0 || type == 0xD0 ? 2 : 3;
+    }
+
+
+    /** A queued system exclusive message. */
+    private static class SysexEntry
+    {
+        final byte [] data;
+        final long    time;
+
+
+        SysexEntry (final byte [] data, final long time)
+        {
+            this.data = data;
+            this.time = time;
+        }
+    }
+}
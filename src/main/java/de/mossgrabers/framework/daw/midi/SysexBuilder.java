@@ -0,0 +1,246 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds a system exclusive message directly as bytes. The internal buffer is reused for all
+ * messages which are built with the same instance. Since an instance is not thread safe, use one
+ * instance per sending thread.
+ *
+ * <pre>
+ * this.sysex.start (HEADER).add7Bit (row).addAscii (text).send (this.output);
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int SYSEX_END = 0xF7;
+
+    private byte []          buffer;
+    private int              length;
+
+
+    /**
+     * Constructor.
+     */
+    public SysexBuilder ()
+    {
+        this (128);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer
+     */
+    public SysexBuilder (final int capacity)
+    {
+        this.buffer = new byte [capacity];
+    }
+
+
+    /**
+     * Parse a hex string, e.g. a message header, into bytes.
+     *
+     * @param hex The bytes formatted as a hex string, e.g. F0 00 00 66 14 12. Groups of bytes
+     *            without separating spaces are split into pairs of characters
+     * @return The bytes
+     */
+    public static byte [] fromHex (final String hex)
+    {
+        final String text = hex.trim ();
+        if (text.isEmpty ())
+            return new byte [0];
+        final String [] parts = text.split ("\\s+");
+        final SysexBuilder builder = new SysexBuilder (parts.length);
+        for (final String part: parts)
+        {
+            if (part.length () <= 2)
+                builder.addByte (Integer.parseInt (part, 16));
+            else
+            {
+                for (int i = 0; i < part.length (); i += 2)
+                    builder.addByte (Integer.parseInt (part.substring (i, Math.min (i + 2, part.length ())), 16));
+            }
+        }
+        return Arrays.copyOf (builder.buffer, builder.length);
+    }
+
+
+    /**
+     * Start a new message.
+     *
+     * @param header The header of the message including the start byte F0
+     * @return The builder for chaining
+     */
+    public SysexBuilder start (final byte [] header)
+    {
+        this.length = 0;
+        return this.addBytes (header);
+    }
+
+
+    /**
+     * Add a byte unmodified.
+     *
+     * @param value The byte
+     * @return The builder for chaining
+     */
+    public SysexBuilder addByte (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add bytes unmodified.
+     *
+     * @param data The bytes
+     * @return The builder for chaining
+     */
+    public SysexBuilder addBytes (final byte [] data)
+    {
+        this.ensureCapacity (data.length);
+        System.arraycopy (data, 0, this.buffer, this.length, data.length);
+        this.length += data.length;
+        return this;
+    }
+
+
+    /**
+     * Add a 7-bit value. The highest bit is cleared.
+     *
+     * @param value The value
+     * @return The builder for chaining
+     */
+    public SysexBuilder add7Bit (final int value)
+    {
+        return this.addByte (value & 0x7F);
+    }
+
+
+    /**
+     * Add 7-bit values. The highest bit of each value is cleared.
+     *
+     * @param values The values
+     * @return The builder for chaining
+     */
+    public SysexBuilder add7Bit (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add a value split into 2 nibbles, first the upper 4 bits then the lower 4 bits.
+     *
+     * @param value The value in the range of 0-255
+     * @return The builder for chaining
+     */
+    public SysexBuilder addNibbles (final int value)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.length++] = (byte) (value >> 4 & 0x0F);
+        this.buffer[this.length++] = (byte) (value & 0x0F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. The highest bit of each character is cleared.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        final int size = text.length ();
+        this.ensureCapacity (size);
+        for (int i = 0; i < size; i++)
+            this.buffer[this.length++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add characters. The highest bit of each character is cleared.
+     *
+     * @param characters The characters
+     * @param offset The index of the first character to add
+     * @param count The number of characters to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final char [] characters, final int offset, final int count)
+    {
+        this.ensureCapacity (count);
+        for (int i = 0; i < count; i++)
+            this.buffer[this.length++] = (byte) (characters[offset + i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes added since the start of the message.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Finish the message by adding the end byte F7.
+     *
+     * @return The bytes of the message
+     */
+    public byte [] build ()
+    {
+        this.addByte (SYSEX_END);
+        return Arrays.copyOf (this.buffer, this.length);
+    }
+
+
+    /**
+     * Finish the message by adding the end byte F7 and send it.
+     *
+     * @param output The output to send to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+    }
+
+
+    /**
+     * Finish the message by adding the end byte F7 and send it.
+     *
+     * @param output The output to send to
+     * @param priority The priority of the message if the bandwidth of the output is limited
+     */
+    public void send (final IMidiOutput output, final TransmitPriority priority)
+    {
+        output.sendSysex (this.build (), priority);
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
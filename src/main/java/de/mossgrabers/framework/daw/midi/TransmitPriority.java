@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * The priority of a message in the transmit queue of a midi output. If the bandwidth of an output
+ * is limited, messages of a higher priority are sent first.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum TransmitPriority
+{
+    /** Faders, LEDs and pads. */
+    CONTROL,
+    /** Text of displays. */
+    TEXT,
+    /** Bulk system exclusive data. */
+    BULK
+}
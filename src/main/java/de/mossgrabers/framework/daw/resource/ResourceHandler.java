@@ -4,31 +4,48 @@
 
 package de.mossgrabers.framework.daw.resource;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
 /**
- * Get and cache some resources like SVG images.
+ * Get and cache some resources like SVG images. Additionally, an atlas of SVG images which are
+ * masked with a color is kept. These images are rasterised once into a bitmap, which can be drawn
+ * cheaply. Since bitmaps can only be created on the host thread, the render thread only reads the
+ * atlas. Missing images are requested and created by the host thread before the next frame.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public final class ResourceHandler
 {
-    private static final Map<String, IImage> CACHE = new HashMap<> ();
-    private static IHost                     theHost;
+    /** Limit the number of rasterised images, there should not be more than the number of colors. */
+    private static final int                             MAX_ATLAS_IMAGES = 1024;
+
+    private static final Map<String, IImage>             CACHE            = new HashMap<> ();
+    private static final Map<String, Map<ColorEx, Tile>> ATLAS            = new HashMap<> ();
+    private static final Map<String, List<ColorEx>>      REQUESTS         = new HashMap<> ();
+    private static int                                   atlasSize;
+    private static IHost                                 theHost;
 
 
     /**
-     * Initialise the handler.
+     * Initialise the handler. The images are only loaded once for a host.
      *
      * @param host The controller host
      */
-    public static void init (final IHost host)
+    public static synchronized void init (final IHost host)
     {
+        if (theHost == host && !CACHE.isEmpty ())
+            return;
+
         theHost = host;
 
         addSVGImage ("channel/mute.svg");
@@ -68,18 +85,114 @@ public final class ResourceHandler
      * @param imageName The name of the image
      * @return The buffered image
      */
-    public static IImage getSVGImage (final String imageName)
+    public static synchronized IImage getSVGImage (final String imageName)
     {
         return CACHE.get (imageName);
     }
 
 
+    /**
+     * Get a SVG image masked with a color from the atlas. Can be called from any thread. If the
+     * image is not in the atlas yet (or the SVG image was loaded again, e.g. with a different size)
+     * it is requested, see {@link #createRequestedImages()}.
+     *
+     * @param imageName The name of the image
+     * @param maskColor The color to use for masking
+     * @return The masked image, which can be drawn with
+     *         {@link IGraphicsContext#drawImage(IImage, double, double)}, or null if it is not
+     *         available yet
+     */
+    public static synchronized IImage getSVGImage (final String imageName, final ColorEx maskColor)
+    {
+        final IImage image = CACHE.get (imageName);
+        if (image == null)
+            return null;
+
+        final Map<ColorEx, Tile> tiles = ATLAS.get (imageName);
+        final Tile tile = tiles == null ? null : tiles.get (maskColor);
+        if (tile != null && tile.source == image)
+            return tile.bitmap;
+
+        final List<ColorEx> colors = REQUESTS.computeIfAbsent (imageName, name -> new ArrayList<> ());
+        if (!colors.contains (maskColor))
+            colors.add (maskColor);
+        return null;
+    }
+
+
+    /**
+     * Draw a SVG image masked with a color. Uses the rasterised image from the atlas if available,
+     * otherwise the SVG image is masked directly and the rasterised image is requested.
+     *
+     * @param gc The graphics context to draw into
+     * @param imageName The name of the image
+     * @param x The X position of the image
+     * @param y The Y position of the image
+     * @param maskColor The color to use for masking
+     */
+    public static void drawSVGImage (final IGraphicsContext gc, final String imageName, final double x, final double y, final ColorEx maskColor)
+    {
+        final IImage bitmap = getSVGImage (imageName, maskColor);
+        if (bitmap != null)
+        {
+            gc.drawImage (bitmap, x, y);
+            return;
+        }
+
+        final IImage image = getSVGImage (imageName);
+        if (image != null)
+            gc.maskImage (image, x, y, maskColor);
+    }
+
+
+    /**
+     * Rasterise the masked images which were requested since the last call. Must be called on the
+     * host thread, e.g. before a frame is handed to the render thread.
+     */
+    public static synchronized void createRequestedImages ()
+    {
+        if (REQUESTS.isEmpty ())
+            return;
+
+        REQUESTS.forEach ( (imageName, colors) -> {
+            for (final ColorEx maskColor: colors)
+                createImage (imageName, maskColor);
+        });
+        REQUESTS.clear ();
+    }
+
+
+    private static void createImage (final String imageName, final ColorEx maskColor)
+    {
+        final IImage image = CACHE.get (imageName);
+        if (image == null)
+            return;
+
+        final Map<ColorEx, Tile> tiles = ATLAS.computeIfAbsent (imageName, name -> new HashMap<> ());
+        final Tile tile = tiles.get (maskColor);
+        if (tile != null && tile.source == image)
+            return;
+
+        if (atlasSize >= MAX_ATLAS_IMAGES)
+        {
+            ATLAS.values ().forEach (Map::clear);
+            atlasSize = 0;
+        }
+
+        final int width = (int) Math.ceil (image.getWidth ());
+        final IBitmap bitmap = theHost.createBitmap (width, image.getHeight ());
+        bitmap.render (true, gc -> gc.maskImage (image, 0, 0, maskColor));
+        if (tiles.put (maskColor, new Tile (image, bitmap)) == null)
+            atlasSize++;
+    }
+
+
     /**
      * Load and cache an image.
      *
      * @param imageName The name (absolute path) of the image
      */
-    public static void addSVGImage (final String imageName)
+    public static synchronized void addSVGImage (final String imageName)
     {
         CACHE.put (imageName, theHost.loadSVG (imageName, 1));
     }
@@ -92,4 +205,27 @@ public final class ResourceHandler
     {
         // Intentionally empty
     }
+
+
+    /**
+     * A rasterised image of the atlas.
+     */
+    private static class Tile
+    {
+        final IImage  source;
+        final IBitmap bitmap;
+
+
+        /**
+         * Constructor.
+         *
+         * @param source The SVG image from which the bitmap was rendered
+         * @param bitmap The rasterised image
+         */
+        Tile (final IImage source, final IBitmap bitmap)
+        {
+            this.source = source;
+            this.bitmap = bitmap;
+        }
+    }
 }
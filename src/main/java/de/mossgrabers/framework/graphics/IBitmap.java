@@ -5,11 +5,12 @@
 package de.mossgrabers.framework.graphics;
 
 /**
- * An interface to a bitmap, which can also be displayed in a window.
+ * An interface to a bitmap, which can also be displayed in a window. A bitmap can also be drawn
+ * like an image.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface IBitmap
+public interface IBitmap extends IImage
 {
     /**
      * Set a title for the window, which displays the Bitmap.
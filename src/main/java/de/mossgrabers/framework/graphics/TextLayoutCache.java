@@ -0,0 +1,170 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Caches the results of measuring texts, since mostly the same labels are drawn again and again.
+ * The cache can be shared by several graphics contexts as long as they use the same font. The
+ * least recently used entries are removed if the cache is full.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextLayoutCache
+{
+    private static final int           MAX_ENTRIES = 2048;
+
+    private final Map<TextKey, Double> widths      = createMap ();
+    private final Map<TextKey, Double> heights     = createMap ();
+    private final Map<TextKey, Double> fontSizes   = createMap ();
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the width of the text if it is not cached, the font size is already
+     *            set
+     * @return The width of the text
+     */
+    public synchronized double getTextWidth (final String text, final double fontSize, final ToDoubleFunction<String> measurer)
+    {
+        return get (this.widths, new TextKey (text, fontSize, 0, 0), () -> measurer.applyAsDouble (text));
+    }
+
+
+    /**
+     * Get the height of a text.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the height of the text if it is not cached, the font size is
+     *            already set
+     * @return The height of the text
+     */
+    public synchronized double getTextHeight (final String text, final double fontSize, final ToDoubleFunction<String> measurer)
+    {
+        return get (this.heights, new TextKey (text, fontSize, 0, 0), () -> measurer.applyAsDouble (text));
+    }
+
+
+    /**
+     * Get the maximum font size of a text which needs to fit into a width.
+     *
+     * @param text The text
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width
+     * @param minimumFontSize The minimum font size
+     * @param calculator Calculates the font size if it is not cached
+     * @return The font size
+     */
+    public synchronized double getFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize, final DoubleSupplier calculator)
+    {
+        return get (this.fontSizes, new TextKey (text, maxHeight, maxWidth, minimumFontSize), calculator);
+    }
+
+
+    /**
+     * Removes all cached values, e.g. if the font was changed.
+     */
+    public synchronized void clear ()
+    {
+        this.widths.clear ();
+        this.heights.clear ();
+        this.fontSizes.clear ();
+    }
+
+
+    private static double get (final Map<TextKey, Double> cache, final TextKey key, final DoubleSupplier calculator)
+    {
+        final Double value = cache.get (key);
+        if (value != null)
+            return value.doubleValue ();
+        final double result = calculator.getAsDouble ();
+        cache.put (key, Double.valueOf (result));
+        return result;
+    }
+
+
+    private static Map<TextKey, Double> createMap ()
+    {
+        return new LinkedHashMap<> (256, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<TextKey, Double> eldest)
+            {
+                return this.size () > MAX_ENTRIES;
+            }
+        };
+    }
+
+
+    /**
+     * The key for the cached values: a text and up to 3 dimensions.
+     */
+    private static class TextKey
+    {
+        private final String text;
+        private final double value1;
+        private final double value2;
+        private final double value3;
+        private final int    hash;
+
+
+        /**
+         * Constructor.
+         *
+         * @param text The text
+         * @param value1 The first dimension
+         * @param value2 The second dimension
+         * @param value3 The third dimension
+         */
+        TextKey (final String text, final double value1, final double value2, final double value3)
+        {
+            this.text = text;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+
+            final int prime = 31;
+            int result = text.hashCode ();
+            result = prime * result + Double.hashCode (value1);
+            result = prime * result + Double.hashCode (value2);
+            result = prime * result + Double.hashCode (value3);
+            this.hash = result;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final TextKey other = (TextKey) obj;
+            return this.hash == other.hash && Double.compare (this.value1, other.value1) == 0 && Double.compare (this.value2, other.value2) == 0 && Double.compare (this.value3, other.value3) == 0 && this.text.equals (other.text);
+        }
+    }
+}
@@ -14,7 +14,7 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.utils.Pair;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -25,17 +25,71 @@ import java.util.List;
  */
 public class ClipListComponent implements IComponent
 {
-    private final List<Pair<ITrack, ISlot>> items;
+    private static final int FLAG_GROUP            = 0x001;
+    private static final int FLAG_EXISTS           = 0x002;
+    private static final int FLAG_HAS_CONTENT      = 0x004;
+    private static final int FLAG_PLAYING          = 0x008;
+    private static final int FLAG_RECORDING        = 0x010;
+    private static final int FLAG_PLAYING_QUEUED   = 0x020;
+    private static final int FLAG_RECORDING_QUEUED = 0x040;
+    private static final int FLAG_REC_ARM          = 0x080;
+    private static final int FLAG_SELECTED         = 0x100;
+    private static final int FLAG_TRACK_SELECTED   = 0x200;
+
+    private final ColorEx [] colors;
+    private final String []  names;
+    private final int []     states;
 
 
     /**
-     * Constructor.
+     * Constructor. Copies the current state of the slots, since drawing happens on another thread.
      *
      * @param slots The list items
      */
     public ClipListComponent (final List<Pair<ITrack, ISlot>> slots)
     {
-        this.items = new ArrayList<> (slots);
+        final int size = slots.size ();
+
+        this.colors = new ColorEx [size];
+        this.names = new String [size];
+        this.states = new int [size];
+
+        for (int i = 0; i < size; i++)
+        {
+            final Pair<ITrack, ISlot> pair = slots.get (i);
+            final ISlot slot = pair.getValue ();
+            final ITrack track = pair.getKey ();
+
+            this.colors[i] = slot.getColor ();
+
+            String name = slot.getName ();
+            if (track.isGroup () && name.isEmpty ())
+                name = "Scene " + (slot.getPosition () + 1);
+            this.names[i] = name;
+
+            int state = 0;
+            if (track.isGroup ())
+                state |= FLAG_GROUP;
+            if (slot.doesExist ())
+                state |= FLAG_EXISTS;
+            if (slot.hasContent ())
+                state |= FLAG_HAS_CONTENT;
+            if (slot.isPlaying ())
+                state |= FLAG_PLAYING;
+            if (slot.isRecording ())
+                state |= FLAG_RECORDING;
+            if (slot.isPlayingQueued ())
+                state |= FLAG_PLAYING_QUEUED;
+            if (slot.isRecordingQueued ())
+                state |= FLAG_RECORDING_QUEUED;
+            if (track.isRecArm ())
+                state |= FLAG_REC_ARM;
+            if (slot.isSelected ())
+                state |= FLAG_SELECTED;
+            if (track.isSelected ())
+                state |= FLAG_TRACK_SELECTED;
+            this.states[i] = state;
+        }
     }
 
 
@@ -53,7 +107,7 @@ public class ClipListComponent implements IComponent
         final double separatorSize = dimensions.getSeparatorSize ();
         final double inset = dimensions.getInset ();
 
-        final int size = this.items.size ();
+        final int size = this.colors.length;
         final double itemLeft = left + separatorSize;
         final double itemWidth = width - separatorSize;
         final double itemHeight = height / size;
@@ -67,53 +121,49 @@ public class ClipListComponent implements IComponent
 
         for (int i = 0; i < size; i++)
         {
-            final Pair<ITrack, ISlot> pair = this.items.get (i);
-            final ISlot slot = pair.getValue ();
-            final ITrack track = pair.getKey ();
+            final int state = this.states[i];
 
             final double itemTop = i * itemHeight;
 
-            String name = slot.getName ();
+            final String name = this.names[i];
 
             final double boxTop = itemTop + (itemHeight - fontHeight) / 2;
 
             // Draw the background
-            final ColorEx clipBackgroundColor = slot.getColor ();
-            if (track.isGroup ())
+            final ColorEx clipBackgroundColor = this.colors[i];
+            if (isSet (state, FLAG_GROUP))
             {
-                if (name.isEmpty ())
-                    name = "Scene " + (slot.getPosition () + 1);
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, ColorEx.darker (ColorEx.DARK_GRAY));
                 gc.fillRectangle (itemLeft + itemWidth - 2 * inset, itemTop + separatorSize, 2 * inset, itemHeight - 2 * separatorSize, clipBackgroundColor);
             }
             else
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, clipBackgroundColor);
 
-            if (slot.doesExist ())
+            if (isSet (state, FLAG_EXISTS))
             {
                 // Draw the play/record state indicator box
-                final boolean isPlaying = slot.isPlaying ();
-                if (isPlaying || slot.isRecording () || slot.isPlayingQueued () || slot.isRecordingQueued ())
+                final boolean isPlaying = isSet (state, FLAG_PLAYING);
+                if (isPlaying || isSet (state, FLAG_RECORDING | FLAG_PLAYING_QUEUED | FLAG_RECORDING_QUEUED))
                     gc.fillRectangle (boxLeft, boxTop, fontHeight, fontHeight, ColorEx.BLACK);
 
                 // Draw the play, record or stop symbol depending on the slots state
-                if (slot.hasContent ())
+                if (isSet (state, FLAG_HAS_CONTENT))
                 {
-                    if (slot.isRecording ())
+                    if (isSet (state, FLAG_RECORDING))
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.RED);
                     else
                     {
                         ColorEx fillColor = ColorEx.darker (clipBackgroundColor);
                         if (isPlaying)
                             fillColor = ColorEx.GREEN;
-                        else if (slot.isPlayingQueued () || slot.isRecordingQueued ())
+                        else if (isSet (state, FLAG_PLAYING_QUEUED | FLAG_RECORDING_QUEUED))
                             fillColor = ColorEx.WHITE;
                         gc.fillTriangle (boxLeft + separatorSize, boxTop + separatorSize, boxLeft + separatorSize, boxTop + fontHeight - separatorSize, boxLeft + fontHeight - separatorSize, boxTop + fontHeight / 2, fillColor);
                     }
                 }
                 else
                 {
-                    if (track.isRecArm ())
+                    if (isSet (state, FLAG_REC_ARM))
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.DARK_GRAY);
                     else
                         gc.fillRectangle (boxLeft + separatorSize, boxTop + separatorSize, boxWidth, boxWidth, ColorEx.DARK_GRAY);
@@ -124,12 +174,13 @@ public class ClipListComponent implements IComponent
             }
 
             // Draw the border
+            final boolean isSelected = isSet (state, FLAG_SELECTED);
             ColorEx color = borderColor;
-            if (slot.isSelected ())
+            if (isSelected)
                 color = textColor;
-            else if (track.isSelected ())
+            else if (isSet (state, FLAG_TRACK_SELECTED))
                 color = ColorEx.darker (ColorEx.YELLOW);
-            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected () ? 2 : 1);
+            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, isSelected ? 2 : 1);
         }
     }
 
@@ -140,7 +191,9 @@ public class ClipListComponent implements IComponent
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + (this.items == null ? 0 : this.items.hashCode ());
+        result = prime * result + Arrays.hashCode (this.colors);
+        result = prime * result + Arrays.hashCode (this.names);
+        result = prime * result + Arrays.hashCode (this.states);
         return result;
     }
 
@@ -156,13 +209,16 @@ public class ClipListComponent implements IComponent
         if (this.getClass () != obj.getClass ())
             return false;
         final ClipListComponent other = (ClipListComponent) obj;
-        if (this.items == null)
-        {
-            if (other.items != null)
-                return false;
-        }
-        else if (!this.items.equals (other.items))
+        if (!Arrays.equals (this.colors, other.colors))
+            return false;
+        if (!Arrays.equals (this.names, other.names))
             return false;
-        return true;
+        return Arrays.equals (this.states, other.states);
+    }
+
+
+    private static boolean isSet (final int state, final int flags)
+    {
+        return (state & flags) != 0;
     }
 }
@@ -147,12 +147,14 @@ public class LabelComponent implements IComponent
         final double textTop = top + height - trackRowHeight - unit;
         if (iconName != null)
         {
-            final IImage image = ResourceHandler.getSVGImage (iconName);
             final ColorEx maskColor = this.modifyIfOff (this.getMaskColor (configuration));
+            final IImage image = ResourceHandler.getSVGImage (iconName);
+            final double x = left + (doubleUnit - image.getWidth ()) / 2;
+            final double y = textTop + (trackRowHeight - image.getHeight ()) / 2.0;
             if (maskColor == null)
-                gc.drawImage (image, left + (doubleUnit - image.getWidth ()) / 2, textTop + (trackRowHeight - image.getHeight ()) / 2.0);
+                gc.drawImage (image, x, y);
             else
-                gc.maskImage (image, left + (doubleUnit - image.getWidth ()) / 2, textTop + (trackRowHeight - image.getHeight ()) / 2.0, maskColor);
+                ResourceHandler.drawSVGImage (gc, iconName, x, y, maskColor);
         }
 
         gc.drawTextInBounds (this.text, left + doubleUnit, textTop, width - doubleUnit, trackRowHeight, Align.LEFT, this.modifyIfOff (configuration.getColorText ()), 1.2 * unit);
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.graphics.canvas.component;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ClipOverview;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
@@ -15,26 +16,103 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
- * A component which displays the notes of a midi clip.
+ * A component which displays the notes of a midi clip. If the clip is longer than the displayed
+ * page, an overview of the whole clip is drawn below the notes.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiClipComponent implements IComponent
 {
-    private final INoteClip clip;
-    private int             quartersPerMeasure;
+    private static final int    OVERVIEW_HEIGHT  = 16;
+    /** The maximum number of buckets to copy from the overview. */
+    private static final int    OVERVIEW_COLUMNS = 1024;
+
+    private final int           quartersPerMeasure;
+
+    private final ColorEx       color;
+    private final int           numSteps;
+    private final double        stepLength;
+    private final int           editPage;
+    private final boolean       isLoopEnabled;
+    private final double        loopStart;
+    private final double        loopLength;
+    private final double        playStart;
+    private final double        playEnd;
+    private final int           currentStep;
+    private final int           lowerRowWithData;
+    private final int           upperRowWithData;
+    // The states of the displayed steps: [row - lowerRowWithData][channel][step], null if empty
+    private final byte [] [] [] stepStates;
+
+    private final int           clipSteps;
+    private final int           overviewLevel;
+    private final int           overviewLowerRow;
+    private final int           overviewUpperRow;
+    private final byte []       overviewVelocities;
+    private final byte []       overviewLowerRows;
+    private final byte []       overviewUpperRows;
 
 
     /**
-     * Constructor.
+     * Constructor. Copies the current state of the clip, since drawing happens on another thread.
      *
      * @param clip The clip to display
      * @param quartersPerMeasure The quarters of a measure
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+
+        this.color = clip.getColor ();
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.currentStep = clip.getCurrentStep ();
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        this.upperRowWithData = clip.getUpperRowWithData ();
+
+        // Copy the level of the overview which fits into the maximum number of columns
+        final ClipOverview overview = clip.getOverview ();
+        this.clipSteps = (int) Math.ceil (Math.max (this.playEnd, this.loopStart + this.loopLength) / this.stepLength);
+        this.overviewLevel = overview.getLevel (this.clipSteps, OVERVIEW_COLUMNS);
+        this.overviewLowerRow = overview.getLowerRow ();
+        this.overviewUpperRow = overview.getUpperRow ();
+        final int numBuckets = this.clipSteps > this.numSteps && this.overviewUpperRow >= 0 ? (this.clipSteps + (1 << this.overviewLevel) - 1) >> this.overviewLevel : 0;
+        this.overviewVelocities = new byte [numBuckets];
+        this.overviewLowerRows = new byte [numBuckets];
+        this.overviewUpperRows = new byte [numBuckets];
+        for (int bucket = 0; bucket < numBuckets; bucket++)
+        {
+            this.overviewVelocities[bucket] = (byte) overview.getVelocity (this.overviewLevel, bucket);
+            this.overviewLowerRows[bucket] = (byte) overview.getLowerRow (this.overviewLevel, bucket);
+            this.overviewUpperRows[bucket] = (byte) overview.getUpperRow (this.overviewLevel, bucket);
+        }
+
+        if (this.lowerRowWithData == -1)
+        {
+            this.stepStates = new byte [0] [] [];
+            return;
+        }
+
+        this.stepStates = new byte [1 + this.upperRowWithData - this.lowerRowWithData] [16] [];
+        for (int row = 0; row < this.stepStates.length; row++)
+        {
+            final int note = this.lowerRowWithData + row;
+            for (int channel = 0; channel < 16; channel++)
+            {
+                if (!clip.hasRowData (channel, note))
+                    continue;
+                final byte [] states = new byte [this.numSteps];
+                for (int step = 0; step < this.numSteps; step++)
+                    states[step] = (byte) clip.getStep (channel, step, note).getState ();
+                this.stepStates[row][channel] = states;
+            }
+        }
     }
 
 
@@ -49,7 +127,7 @@ public class MidiClipComponent implements IComponent
 
         final ColorEx dividersColor = configuration.getColorBackgroundDarker ();
 
-        final ColorEx noteColor = this.clip.getColor ();
+        final ColorEx noteColor = this.color;
         final ColorEx noteGridLoopColor = configuration.getColorBackground ();
         final ColorEx noteBorderColor = ColorEx.BLACK;
 
@@ -58,24 +136,28 @@ public class MidiClipComponent implements IComponent
         final double width = info.getBounds ().getWidth ();
         final double height = info.getBounds ().getHeight ();
 
+        final int numSteps = this.numSteps;
+        final double stepLength = this.stepLength;
+
+        // Only display the overview if there is more than the current page
+        final boolean hasOverview = this.overviewVelocities.length > 0;
+
         final int top = 14;
-        final double noteAreaHeight = height - top;
+        final double noteAreaHeight = height - top - (hasOverview ? OVERVIEW_HEIGHT : 0);
 
         // Draw the background
         gc.fillRectangle (left, top, width, noteAreaHeight, gridBackground);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
         final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
+        final int editPage = this.editPage;
         final double startPos = editPage * pageLength;
         final double endPos = (editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
+            final double loopStart = this.loopStart;
+            final double loopLength = this.loopLength;
             // ... the loop is visible in the current page
             if (loopStart < endPos && loopStart + loopLength > startPos)
             {
@@ -91,7 +173,7 @@ public class MidiClipComponent implements IComponent
             }
         }
         // Draw play start in header
-        final double playStart = this.clip.getPlayStart ();
+        final double playStart = this.playStart;
         if (playStart >= startPos && playStart <= endPos)
         {
             final double start = playStart - startPos;
@@ -100,7 +182,7 @@ public class MidiClipComponent implements IComponent
             gc.strokeTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, ColorEx.evenDarker (noteColor));
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
+        final double playEnd = this.playEnd;
         if (playEnd >= startPos && playEnd <= endPos)
         {
             final double end = playEnd - startPos;
@@ -125,11 +207,14 @@ public class MidiClipComponent implements IComponent
             }
         }
 
+        if (hasOverview)
+            this.drawOverview (gc, left, top + noteAreaHeight, width, OVERVIEW_HEIGHT, dividersColor, noteGridLoopColor, noteColor);
+
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowerRowWithData ();
+        final int lowerRowWithData = this.lowerRowWithData;
         if (lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getUpperRowWithData ();
+        final int upperRowWithData = this.upperRowWithData;
         // Display at least 4 rows
         final int range = Math.max (4, 1 + upperRowWithData - lowerRowWithData);
         final double stepHeight = noteAreaHeight / range;
@@ -140,14 +225,19 @@ public class MidiClipComponent implements IComponent
         {
             gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, dividersColor);
 
-            for (int step = 0; step < numSteps; step++)
+            final int note = lowerRowWithData + row;
+            if (row >= this.stepStates.length)
+                continue;
+            for (int channel = 0; channel < 16; channel++)
             {
-                final int note = lowerRowWithData + row;
+                final byte [] states = this.stepStates[row][channel];
+                if (states == null)
+                    continue;
 
                 // Get step, check for length
-                for (int channel = 0; channel < 16; channel++)
+                for (int step = 0; step < numSteps; step++)
                 {
-                    final int stepState = this.clip.getStep (channel, step, note).getState ();
+                    final int stepState = states[step];
                     if (stepState == 0)
                         continue;
 
@@ -174,8 +264,50 @@ public class MidiClipComponent implements IComponent
         }
 
         // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
+        final int playStep = this.currentStep;
         if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
+            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, top + noteAreaHeight, measureTextColor);
+    }
+
+
+    /**
+     * Draw the overview of the whole clip. Each copied bucket of the overview is drawn as a bar
+     * covering its lowest to highest note, the brightness shows the maximum velocity.
+     *
+     * @param gc The graphics context
+     * @param left The left edge of the overview
+     * @param top The top edge of the overview
+     * @param width The width of the overview
+     * @param height The height of the overview
+     * @param backgroundColor The background color
+     * @param pageColor The color to mark the currently displayed page
+     * @param noteColor The color of the notes
+     */
+    private void drawOverview (final IGraphicsContext gc, final double left, final double top, final double width, final double height, final ColorEx backgroundColor, final ColorEx pageColor, final ColorEx noteColor)
+    {
+        gc.fillRectangle (left, top, width, height, backgroundColor);
+
+        final int clipSteps = this.clipSteps;
+        final double pageX = width * this.editPage * this.numSteps / clipSteps;
+        gc.fillRectangle (left + pageX, top, Math.max (1, width * this.numSteps / clipSteps), height, pageColor);
+
+        final int upperRow = this.overviewUpperRow;
+        final int range = 1 + upperRow - this.overviewLowerRow;
+        final double rowHeight = (height - 2) / range;
+
+        final int bucketSteps = 1 << this.overviewLevel;
+        final int numBuckets = this.overviewVelocities.length;
+        final double bucketWidth = Math.max (1, width * bucketSteps / clipSteps);
+        for (int bucket = 0; bucket < numBuckets; bucket++)
+        {
+            final int velocity = this.overviewVelocities[bucket];
+            if (velocity == 0)
+                continue;
+
+            final double x = left + width * bucket * bucketSteps / clipSteps;
+            final double y = top + 1 + (upperRow - this.overviewUpperRows[bucket]) * rowHeight;
+            final double h = (1 + this.overviewUpperRows[bucket] - this.overviewLowerRows[bucket]) * rowHeight;
+            gc.fillRectangle (x, y, bucketWidth, Math.max (1, h), noteColor.dim (0.3 + 0.7 * velocity / 127.0));
+        }
     }
 }
@@ -0,0 +1,157 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * A mutable record for the data of one display column which is reused between flushes. The values
+ * from which the component of the column is created are added one by one and compared with the
+ * values of the previous flush. Only if one of them changed, a new component needs to be created.
+ * Otherwise the component of the previous flush is shared, which allows to detect unchanged
+ * columns by identity without comparing their content.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColumnRecord
+{
+    private int        kind    = -1;
+    private long []    values  = new long [24];
+    private Object []  objects = new Object [12];
+    private int        valueCount;
+    private int        objectCount;
+    private int        previousValueCount;
+    private int        previousObjectCount;
+    private boolean    isChanged;
+    private IComponent component;
+
+
+    /**
+     * Start to add the values of the current flush.
+     *
+     * @param kind Identifies the kind of component and the order of the values which are added
+     * @return The record for chaining
+     */
+    public ColumnRecord begin (final int kind)
+    {
+        this.isChanged = this.component == null || this.kind != kind;
+        this.kind = kind;
+        this.previousValueCount = this.valueCount;
+        this.previousObjectCount = this.objectCount;
+        this.valueCount = 0;
+        this.objectCount = 0;
+        return this;
+    }
+
+
+    /**
+     * Add a numeric value.
+     *
+     * @param value The value
+     * @return The record for chaining
+     */
+    public ColumnRecord add (final long value)
+    {
+        if (this.valueCount == this.values.length)
+            this.values = Arrays.copyOf (this.values, 2 * this.values.length);
+        if (this.valueCount >= this.previousValueCount || this.values[this.valueCount] != value)
+        {
+            this.values[this.valueCount] = value;
+            this.isChanged = true;
+        }
+        this.valueCount++;
+        return this;
+    }
+
+
+    /**
+     * Add a numeric value.
+     *
+     * @param value The value
+     * @return The record for chaining
+     */
+    public ColumnRecord add (final double value)
+    {
+        return this.add (Double.doubleToLongBits (value));
+    }
+
+
+    /**
+     * Add a boolean value.
+     *
+     * @param value The value
+     * @return The record for chaining
+     */
+    public ColumnRecord add (final boolean value)
+    {
+        return this.add (value ? 1L : 0L);
+    }
+
+
+    /**
+     * Add an immutable object, e.g. a string, a color or an enumeration value.
+     *
+     * @param value The value, may be null
+     * @return The record for chaining
+     */
+    public ColumnRecord add (final Object value)
+    {
+        if (this.objectCount == this.objects.length)
+            this.objects = Arrays.copyOf (this.objects, 2 * this.objects.length);
+        if (this.objectCount >= this.previousObjectCount || !Objects.equals (this.objects[this.objectCount], value))
+        {
+            this.objects[this.objectCount] = value;
+            this.isChanged = true;
+        }
+        this.objectCount++;
+        return this;
+    }
+
+
+    /**
+     * Check if any value differs from the previous flush. Must be called after all values were
+     * added.
+     *
+     * @return True if the component needs to be created again
+     */
+    public boolean isChanged ()
+    {
+        if (this.valueCount != this.previousValueCount || this.objectCount != this.previousObjectCount)
+            this.isChanged = true;
+        // Release references which are no longer used
+        for (int i = this.objectCount; i < this.previousObjectCount; i++)
+            this.objects[i] = null;
+        return this.isChanged;
+    }
+
+
+    /**
+     * Get the component which was created for the current values.
+     *
+     * @return The component
+     */
+    public IComponent getComponent ()
+    {
+        return this.component;
+    }
+
+
+    /**
+     * Set the component which was created for the current values.
+     *
+     * @param component The component
+     * @return The component
+     */
+    public IComponent setComponent (final IComponent component)
+    {
+        this.component = component;
+        this.isChanged = false;
+        return component;
+    }
+}
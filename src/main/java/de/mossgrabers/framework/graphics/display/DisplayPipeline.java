@@ -0,0 +1,232 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+
+/**
+ * Renders and transmits the content of a graphics display outside of the thread which provides
+ * the data. The pipeline consists of three stages: the caller only hands over a snapshot of the
+ * model (see {@link #submit(ModelInfo)}), a render thread draws it into the bitmap and encodes it
+ * into one of two frame buffers and a sender thread transmits the latest encoded frame to the
+ * device. Like in the {@link de.mossgrabers.framework.utils.LatestTaskExecutor} only the latest
+ * model and the latest frame are kept, stale ones are dropped.
+ *
+ * @param <F> The type of the frame buffer which contains the encoded image
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayPipeline<F>
+{
+    private static final int                 NUMBER_OF_FRAMES = 2;
+    private static final int                 SHUTDOWN_TIMEOUT = 2;
+
+    private final IBitmap                    image;
+    private final Consumer<ModelInfo>        renderer;
+    private final IFrameTransmitter<F>       transmitter;
+
+    private final ExecutorService            renderExecutor   = Executors.newSingleThreadExecutor ();
+    private final ExecutorService            sendExecutor     = Executors.newSingleThreadExecutor ();
+    private final AtomicReference<ModelInfo> pendingModel     = new AtomicReference<> ();
+    private final AtomicReference<Frame<F>>  pendingFrame     = new AtomicReference<> ();
+    private final BlockingQueue<Frame<F>>    freeFrames       = new ArrayBlockingQueue<> (NUMBER_OF_FRAMES);
+
+    private final AtomicLong                 renderedFrames   = new AtomicLong ();
+    private final AtomicLong                 droppedFrames    = new AtomicLong ();
+    private final AtomicLong                 sentFrames       = new AtomicLong ();
+    private final AtomicLong                 lastLatency      = new AtomicLong ();
+    private final AtomicLong                 totalLatency     = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param image The bitmap to render into
+     * @param renderer Renders a model into the bitmap
+     * @param transmitter Encodes the bitmap and sends it to the device
+     */
+    public DisplayPipeline (final IBitmap image, final Consumer<ModelInfo> renderer, final IFrameTransmitter<F> transmitter)
+    {
+        this.image = image;
+        this.renderer = renderer;
+        this.transmitter = transmitter;
+
+        for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+            this.freeFrames.add (new Frame<> (transmitter.createFrame ()));
+    }
+
+
+    /**
+     * Hand over a new model to render and send. If the previous model was not yet rendered it is
+     * dropped.
+     *
+     * @param model The model to display
+     */
+    public void submit (final ModelInfo model)
+    {
+        if (this.renderExecutor.isShutdown ())
+            return;
+        if (this.pendingModel.getAndSet (model) != null)
+            this.droppedFrames.incrementAndGet ();
+        this.renderExecutor.execute (this::renderLatest);
+    }
+
+
+    /**
+     * Stops the pipeline. Waits until the last submitted model is rendered and sent.
+     */
+    public void shutdown ()
+    {
+        this.renderExecutor.shutdown ();
+        try
+        {
+            this.renderExecutor.awaitTermination (SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+            this.sendExecutor.shutdown ();
+            this.sendExecutor.awaitTermination (SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Get the number of frames, which were rendered and encoded.
+     *
+     * @return The number of frames
+     */
+    public long getRenderedFrames ()
+    {
+        return this.renderedFrames.get ();
+    }
+
+
+    /**
+     * Get the number of models and frames, which were dropped since a newer one arrived before
+     * they could be rendered or sent.
+     *
+     * @return The number of dropped frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames, which were sent to the device.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames.get ();
+    }
+
+
+    /**
+     * Get the transfer latency of the last sent frame. This is the time from the frame being ready
+     * for transmission until the transmission has finished.
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getLastTransferLatency ()
+    {
+        return this.lastLatency.get ();
+    }
+
+
+    /**
+     * Get the average transfer latency of all sent frames.
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getAverageTransferLatency ()
+    {
+        final long sent = this.sentFrames.get ();
+        return sent == 0 ? 0 : this.totalLatency.get () / sent;
+    }
+
+
+    private void renderLatest ()
+    {
+        final ModelInfo model = this.pendingModel.getAndSet (null);
+        if (model == null)
+            return;
+
+        this.renderer.accept (model);
+
+        // Re-use the frame which was not yet sent, otherwise the one which is not in transmission
+        Frame<F> frame = this.pendingFrame.getAndSet (null);
+        if (frame == null)
+            frame = this.freeFrames.poll ();
+        else
+            this.droppedFrames.incrementAndGet ();
+        if (frame == null)
+            return;
+
+        this.transmitter.encode (this.image, frame.data);
+        this.renderedFrames.incrementAndGet ();
+
+        frame.readyTime = System.nanoTime ();
+        this.pendingFrame.set (frame);
+        this.sendExecutor.execute (this::sendLatest);
+    }
+
+
+    private void sendLatest ()
+    {
+        final Frame<F> frame = this.pendingFrame.getAndSet (null);
+        if (frame == null)
+            return;
+
+        try
+        {
+            this.transmitter.send (frame.data);
+        }
+        finally
+        {
+            final long latency = System.nanoTime () - frame.readyTime;
+            this.lastLatency.set (latency);
+            this.totalLatency.addAndGet (latency);
+            this.sentFrames.incrementAndGet ();
+            this.freeFrames.offer (frame);
+        }
+    }
+
+
+    /**
+     * A frame buffer and the time when it was ready for sending.
+     *
+     * @param <F> The type of the frame buffer
+     */
+    private static class Frame<F>
+    {
+        final F data;
+        long    readyTime;
+
+
+        /**
+         * Constructor.
+         *
+         * @param data The frame buffer
+         */
+        Frame (final F data)
+        {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Limits the number of frames per second which are rendered for a graphics display. If rendering
+ * a frame takes more than half of the frame interval, the governor switches to a reduced quality
+ * (no anti-aliasing, less frequent VU meter updates) until the rendering gets fast enough again.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FrameRateGovernor
+{
+    /** The default frames per second. */
+    public static final int  DEFAULT_FRAME_RATE = 30;
+
+    /** Update VU meters only on every n-th frame when in reduced quality. */
+    private static final int VU_UPDATE_DIVIDER  = 4;
+
+    private final AtomicLong skippedFrames      = new AtomicLong ();
+    private volatile long    minInterval        = TimeUnit.SECONDS.toNanos (1) / DEFAULT_FRAME_RATE;
+    private volatile boolean isAdaptive         = true;
+    private volatile boolean isReducedQuality;
+    private volatile double  averageRenderTime;
+    private long             lastFrameTime;
+    private int              frameCounter;
+
+
+    /**
+     * Set the maximum number of frames per second and if the quality should be reduced if
+     * rendering gets too slow.
+     *
+     * @param frameRate The frames per second
+     * @param isAdaptive True to reduce the quality if rendering is too slow
+     */
+    public void setFrameRate (final int frameRate, final boolean isAdaptive)
+    {
+        this.minInterval = TimeUnit.SECONDS.toNanos (1) / Math.max (1, frameRate);
+        this.isAdaptive = isAdaptive;
+        if (!isAdaptive)
+            this.isReducedQuality = false;
+    }
+
+
+    /**
+     * Get the time until the next frame may be rendered. If the frame is due (the returned delay
+     * is 0) it is counted as rendered.
+     *
+     * @return The delay in milliseconds, 0 if the frame is due
+     */
+    public synchronized long getFrameDelay ()
+    {
+        final long now = System.nanoTime ();
+        final long remaining = this.lastFrameTime + this.minInterval - now;
+        if (this.lastFrameTime != 0 && remaining > 0)
+            return Math.max (1, TimeUnit.NANOSECONDS.toMillis (remaining));
+        this.lastFrameTime = now;
+        this.frameCounter++;
+        return 0;
+    }
+
+
+    /**
+     * Call if a frame was skipped since it came too early.
+     */
+    public void frameSkipped ()
+    {
+        this.skippedFrames.incrementAndGet ();
+    }
+
+
+    /**
+     * Get the number of frames which were skipped.
+     *
+     * @return The number of skipped frames
+     */
+    public long getSkippedFrames ()
+    {
+        return this.skippedFrames.get ();
+    }
+
+
+    /**
+     * Report the time it took to render a frame. Switches to reduced quality if the rendering takes
+     * more than half of the frame interval and back if it is below a quarter.
+     *
+     * @param renderTime The render time in nanoseconds
+     */
+    public void reportRenderTime (final long renderTime)
+    {
+        final double average = 0.9 * this.averageRenderTime + 0.1 * renderTime;
+        this.averageRenderTime = average;
+
+        if (!this.isAdaptive)
+            return;
+        final long interval = this.minInterval;
+        if (this.isReducedQuality)
+        {
+            if (average < interval / 4.0)
+                this.isReducedQuality = false;
+        }
+        else if (average > interval / 2.0)
+            this.isReducedQuality = true;
+    }
+
+
+    /**
+     * Is the rendering in reduced quality?
+     *
+     * @return True if reduced
+     */
+    public boolean isReducedQuality ()
+    {
+        return this.isReducedQuality;
+    }
+
+
+    /**
+     * Should the VU meters be updated in the current frame?
+     *
+     * @return True if not in reduced quality or if it is the turn of the current frame
+     */
+    public synchronized boolean isVuUpdateDue ()
+    {
+        return !this.isReducedQuality || this.frameCounter % VU_UPDATE_DIVIDER == 0;
+    }
+}
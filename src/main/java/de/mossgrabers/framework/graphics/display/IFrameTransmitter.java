@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+
+
+/**
+ * Converts a rendered bitmap into the format of a hardware display and transmits it to the device.
+ *
+ * @param <F> The type of the frame buffer which contains the encoded image
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IFrameTransmitter<F>
+{
+    /**
+     * Create a frame buffer, which can hold an encoded image.
+     *
+     * @return The frame buffer
+     */
+    F createFrame ();
+
+
+    /**
+     * Encode the image into the format of the device.
+     *
+     * @param image The rendered image
+     * @param frame The frame buffer to fill
+     */
+    void encode (IBitmap image, F frame);
+
+
+    /**
+     * Send the encoded frame to the device.
+     *
+     * @param frame The frame buffer to send
+     */
+    void send (F frame);
+}
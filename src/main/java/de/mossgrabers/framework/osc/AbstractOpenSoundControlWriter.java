@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.osc;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -28,9 +29,12 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, Object>            oldValues       = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private static final int                       MAX_COLOR_TEXTS = 1024;
+
+    private final List<IOpenSoundControlMessage>   messages        = new ArrayList<> ();
+    private final Map<ColorEx, String>             colorTexts      = new HashMap<> ();
 
 
     /**
@@ -105,7 +109,34 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSC (address, formatColor (r, g, b), dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final String address, final ColorEx color, final boolean dump)
+    {
+        String text;
+        synchronized (this.colorTexts)
+        {
+            text = this.colorTexts.get (color);
+            if (text == null)
+            {
+                if (this.colorTexts.size () >= MAX_COLOR_TEXTS)
+                    this.colorTexts.clear ();
+                final int [] rgb = color.toIntRGB255 ();
+                text = formatColor (rgb[0], rgb[1], rgb[2]);
+                this.colorTexts.put (color, text);
+            }
+        }
+        this.sendOSC (address, text, dump);
+    }
+
+
+    private static String formatColor (final int red, final int green, final int blue)
+    {
+        return "rgb(" + red + "," + green + "," + blue + ")";
     }
 
 
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.osc;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
 /**
  * Interface for sending OSC messages.
  *
@@ -50,6 +53,18 @@ public interface IOpenSoundControlWriter
     void sendOSCColor (String address, double red, double green, double blue, boolean dump);
 
 
+    /**
+     * Send an OSC message with a color value. Same as
+     * {@link #sendOSCColor(String, double, double, double, boolean)} but the formatted color text
+     * is cached for each color.
+     *
+     * @param address The address of the OSC message
+     * @param color The color
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (String address, ColorEx color, boolean dump);
+
+
     /**
      * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
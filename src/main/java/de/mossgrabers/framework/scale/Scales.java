@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
@@ -21,12 +22,12 @@ import java.util.Map;
  */
 public class Scales
 {
-    private static final int            DRUM_NOTE_LOWER          = 4;
-    private static final int            DRUM_NOTE_UPPER          = 100;
-    private static final int            DRUM_DEFAULT_OFFSET      = 16;
+    private static final int            DRUM_NOTE_LOWER                 = 4;
+    private static final int            DRUM_NOTE_UPPER                 = 100;
+    private static final int            DRUM_DEFAULT_OFFSET             = 16;
 
     /** The names of notes. */
-    private static final String []      NOTE_NAMES               =
+    private static final String []      NOTE_NAMES                      =
     {
         "C",
         "Db",
@@ -43,7 +44,7 @@ public class Scales
     };
 
     /** The names of the base notes. */
-    public static final String []       BASES                    =
+    public static final String []       BASES                           =
     {
         "C",
         "G",
@@ -60,7 +61,7 @@ public class Scales
     };
 
     /** The semitone offsets of the base notes. */
-    private static final int []         OFFSETS                  =
+    private static final int []         OFFSETS                         =
     {
         0,
         7,
@@ -77,9 +78,9 @@ public class Scales
     };
 
     /** The midi note at which the drum grid starts. */
-    public static final int             DRUM_NOTE_START          = 36;
+    public static final int             DRUM_NOTE_START                 = 36;
     /** The midi note at which the drum grid ends. */
-    public static final int             DRUM_NOTE_END            = 100;
+    public static final int             DRUM_NOTE_END                   = 100;
 
     // @formatter:off
     /** The drum grid matrix. */
@@ -104,43 +105,52 @@ public class Scales
     // @formatter:on
 
     /** Color index when the pad is turned off. */
-    public static final String          SCALE_COLOR_OFF          = "SCALE_COLOR_OFF";
+    public static final String          SCALE_COLOR_OFF                 = "SCALE_COLOR_OFF";
     /** Color index when the pad is the base note of the scale. */
-    public static final String          SCALE_COLOR_OCTAVE       = "SCALE_COLOR_OCTAVE";
+    public static final String          SCALE_COLOR_OCTAVE              = "SCALE_COLOR_OCTAVE";
     /** Color index when the pad is a note of the scale. */
-    public static final String          SCALE_COLOR_NOTE         = "SCALE_COLOR_NOTE";
+    public static final String          SCALE_COLOR_NOTE                = "SCALE_COLOR_NOTE";
     /** Color index when the pad is a note which is not part of the scale. */
-    public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
+    public static final String          SCALE_COLOR_OUT_OF_SCALE        = "SCALE_COLOR_OUT_OF_SCALE";
+
+    /** Handle of the color ID when the pad is turned off. */
+    public static final int             SCALE_COLOR_OFF_HANDLE          = ColorManager.getColorHandle (SCALE_COLOR_OFF);
+    /** Handle of the color ID when the pad is the base note of the scale. */
+    public static final int             SCALE_COLOR_OCTAVE_HANDLE       = ColorManager.getColorHandle (SCALE_COLOR_OCTAVE);
+    /** Handle of the color ID when the pad is a note of the scale. */
+    public static final int             SCALE_COLOR_NOTE_HANDLE         = ColorManager.getColorHandle (SCALE_COLOR_NOTE);
+    /** Handle of the color ID when the pad is a note which is not part of the scale. */
+    public static final int             SCALE_COLOR_OUT_OF_SCALE_HANDLE = ColorManager.getColorHandle (SCALE_COLOR_OUT_OF_SCALE);
 
     /** Number of octaves which can be transposed up and down. */
-    public static final int             OCTAVE_RANGE             = 4;
+    public static final int             OCTAVE_RANGE                    = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
-    public static final int             PIANO_OCTAVE_RANGE       = 3;
+    public static final int             PIANO_OCTAVE_RANGE              = 3;
     /** Number of upper drum octave limit. */
-    public static final int             DRUM_OCTAVE_UPPER        = 4;
+    public static final int             DRUM_OCTAVE_UPPER               = 4;
     /** Number of lower drum octave limit. */
-    public static final int             DRUM_OCTAVE_LOWER        = -2;
+    public static final int             DRUM_OCTAVE_LOWER               = -2;
 
-    private Scale                       selectedScale            = Scale.MAJOR;
+    private Scale                       selectedScale                   = Scale.MAJOR;
     private int                         scaleOffset              = 0;                          // C
-    private ScaleLayout                 scaleLayout              = ScaleLayout.FOURTH_UP;
-    private Orientation                 orientation              = Orientation.ORIENT_UP;
-    private boolean                     chromaticOn              = false;
-    private int                         shift                    = 3;
-    private int                         octave                   = 0;
+    private ScaleLayout                 scaleLayout                     = ScaleLayout.FOURTH_UP;
+    private Orientation                 orientation                     = Orientation.ORIENT_UP;
+    private boolean                     chromaticOn                     = false;
+    private int                         shift                           = 3;
+    private int                         octave                          = 0;
     private int                         drumOffset;
     private int                         drumDefaultOffset;
-    private int                         pianoOctave              = 0;
+    private int                         pianoOctave                     = 0;
     private int                         startNote;
     private int                         endNote;
     private int                         numColumns;
     private int                         numRows;
 
-    private int []                      drumMatrix               = DRUM_MATRIX;
-    private int                         drumNoteStart            = DRUM_NOTE_START;
-    private int                         drumNoteEnd              = DRUM_NOTE_END;
+    private int []                      drumMatrix                      = DRUM_MATRIX;
+    private int                         drumNoteStart                   = DRUM_NOTE_START;
+    private int                         drumNoteEnd                     = DRUM_NOTE_END;
 
-    private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
+    private final Map<Scale, ScaleGrid> scaleGrids                      = new EnumMap<> (Scale.class);
     private IValueChanger               valueChanger;
 
 
@@ -684,6 +694,29 @@ public class Scales
     }
 
 
+    /**
+     * Get the handle of the color ID for the given note respecting the note map. Same as
+     * {@link #getColor(int[], int)} but without the need to look up the color ID.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color handle, see {@link ColorManager#getColorHandle(String)}
+     */
+    public int getColorHandle (final int [] noteMap, final int note)
+    {
+        final int midiNote = noteMap[note];
+        if (midiNote == -1)
+            return Scales.SCALE_COLOR_OFF_HANDLE;
+        // Add 12 to prevent negative values
+        final int n = (12 + midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
+        if (n == 0)
+            return Scales.SCALE_COLOR_OCTAVE_HANDLE;
+        if (!this.isChromatic ())
+            return Scales.SCALE_COLOR_NOTE_HANDLE;
+        return this.isInScale (n) ? Scales.SCALE_COLOR_NOTE_HANDLE : Scales.SCALE_COLOR_OUT_OF_SCALE_HANDLE;
+    }
+
+
     /**
      * Test if the note is part of the selected scale.
      *
@@ -4,10 +4,12 @@
 
 package de.mossgrabers.framework.utils;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -21,14 +23,30 @@ public class LatestTaskExecutor implements Executor
 {
     private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
     private final ExecutorService           executor;
+    private final boolean                   isShared;
+    private volatile boolean                isShutdown;
 
 
     /**
-     * Constructor.
+     * Constructor. Runs the tasks in its own thread.
      */
     public LatestTaskExecutor ()
     {
         this.executor = Executors.newSingleThreadExecutor ();
+        this.isShared = false;
+    }
+
+
+    /**
+     * Constructor. Runs the tasks on a single threaded executor which is shared with others. The
+     * shared executor is not shut down by this executor.
+     *
+     * @param executor The shared executor, must use a single thread
+     */
+    public LatestTaskExecutor (final ExecutorService executor)
+    {
+        this.executor = executor;
+        this.isShared = true;
     }
 
 
@@ -50,7 +68,9 @@ public class LatestTaskExecutor implements Executor
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        this.isShutdown = true;
+        if (!this.isShared)
+            this.executor.shutdown ();
     }
 
 
@@ -61,7 +81,7 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean isShutdown ()
     {
-        return this.executor.isShutdown ();
+        return this.isShutdown || this.executor.isShutdown ();
     }
 
 
@@ -77,6 +97,23 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
     {
-        return this.executor.awaitTermination (timeout, unit);
+        if (!this.isShared)
+            return this.executor.awaitTermination (timeout, unit);
+
+        // The shared executor runs the tasks in order, therefore all tasks of this executor are
+        // completed when an empty task has been executed
+        if (this.executor.isShutdown ())
+            return this.executor.awaitTermination (timeout, unit);
+        try
+        {
+            this.executor.submit ( () -> {
+                // Intentionally empty
+            }).get (timeout, unit);
+            return true;
+        }
+        catch (final ExecutionException | TimeoutException ex)
+        {
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -8,9 +8,9 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IModel;
@@ -39,24 +39,39 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends Configuration> extends AbstractSequencerView<S, C> implements TransposeView
 {
     /** The color ID for the recording state. */
-    public static final String             COLOR_PAD_RECORD      = "COLOR_PAD_RECORD";
+    public static final String             COLOR_PAD_RECORD             = "COLOR_PAD_RECORD";
     /** The color ID for the play state. */
-    public static final String             COLOR_PAD_PLAY        = "COLOR_PAD_PLAY";
+    public static final String             COLOR_PAD_PLAY               = "COLOR_PAD_PLAY";
     /** The color ID for the selected state. */
-    public static final String             COLOR_PAD_SELECTED    = "COLOR_PAD_SELECTED";
+    public static final String             COLOR_PAD_SELECTED           = "COLOR_PAD_SELECTED";
     /** The color ID for the mute state. */
-    public static final String             COLOR_PAD_MUTED       = "COLOR_PAD_MUTED";
+    public static final String             COLOR_PAD_MUTED              = "COLOR_PAD_MUTED";
     /** The color ID for the has-content state. */
-    public static final String             COLOR_PAD_HAS_CONTENT = "COLOR_PAD_HAS_CONTENT";
+    public static final String             COLOR_PAD_HAS_CONTENT        = "COLOR_PAD_HAS_CONTENT";
     /** The color ID for the no-content state. */
-    public static final String             COLOR_PAD_NO_CONTENT  = "COLOR_PAD_NO_CONTENT";
+    public static final String             COLOR_PAD_NO_CONTENT         = "COLOR_PAD_NO_CONTENT";
     /** The color ID for the off state. */
-    public static final String             COLOR_PAD_OFF         = "COLOR_PAD_OFF";
-
-    protected static final int             DRUM_START_KEY        = 36;
-    protected static final int             GRID_COLUMNS          = 8;
-
-    protected int                          loopPadPressed        = -1;
+    public static final String             COLOR_PAD_OFF                = "COLOR_PAD_OFF";
+
+    /** Handle of the color ID for the recording state. */
+    public static final int                COLOR_PAD_RECORD_HANDLE      = ColorManager.getColorHandle (COLOR_PAD_RECORD);
+    /** Handle of the color ID for the play state. */
+    public static final int                COLOR_PAD_PLAY_HANDLE        = ColorManager.getColorHandle (COLOR_PAD_PLAY);
+    /** Handle of the color ID for the selected state. */
+    public static final int                COLOR_PAD_SELECTED_HANDLE    = ColorManager.getColorHandle (COLOR_PAD_SELECTED);
+    /** Handle of the color ID for the mute state. */
+    public static final int                COLOR_PAD_MUTED_HANDLE       = ColorManager.getColorHandle (COLOR_PAD_MUTED);
+    /** Handle of the color ID for the has-content state. */
+    public static final int                COLOR_PAD_HAS_CONTENT_HANDLE = ColorManager.getColorHandle (COLOR_PAD_HAS_CONTENT);
+    /** Handle of the color ID for the no-content state. */
+    public static final int                COLOR_PAD_NO_CONTENT_HANDLE  = ColorManager.getColorHandle (COLOR_PAD_NO_CONTENT);
+    /** Handle of the color ID for the off state. */
+    public static final int                COLOR_PAD_OFF_HANDLE         = ColorManager.getColorHandle (COLOR_PAD_OFF);
+
+    protected static final int             DRUM_START_KEY               = 36;
+    protected static final int             GRID_COLUMNS                 = 8;
+
+    protected int                          loopPadPressed               = -1;
     protected int                          sequencerLines;
     protected int                          playLines;
     protected int                          allLines;
@@ -66,7 +81,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
 
     protected int                          selectedPad;
     protected final BrowserActivator<S, C> browserModeActivator;
-    protected int                          scrollPosition        = -1;
+    protected int                          scrollPosition               = -1;
 
 
     /**
@@ -368,50 +383,50 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         final int offsetY = this.scales.getDrumOffset ();
 
         // Playing note?
         if (this.keyManager.isKeyPressed (offsetY + index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return this.colorManager.getColorIndexByHandle (isRecording ? AbstractDrumView.COLOR_PAD_RECORD_HANDLE : AbstractDrumView.COLOR_PAD_PLAY_HANDLE);
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return this.colorManager.getColorIndexByHandle (AbstractDrumView.COLOR_PAD_SELECTED_HANDLE);
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.colorManager.getColorIndexByHandle (this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF_HANDLE : AbstractDrumView.COLOR_PAD_NO_CONTENT_HANDLE);
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return this.colorManager.getColorIndexByHandle (AbstractDrumView.COLOR_PAD_MUTED_HANDLE);
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return this.colorManager.getDAWColorIndex (drumPad.getColor ());
     }
 
 
-    protected String getStepColor (final int isSet, final boolean hilite, final ColorEx rowColor)
+    protected int getStepColor (final int isSet, final boolean hilite, final ColorEx rowColor)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
-                return rowColor != null ? DAWColor.getColorIndex (ColorEx.darker (rowColor)) : AbstractSequencerView.COLOR_CONTENT_CONT;
+                    return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE);
+                return rowColor != null ? this.colorManager.getDAWColorIndex (ColorEx.darker (rowColor)) : this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_CONTENT_CONT_HANDLE);
             // Note starts
             case IStepInfo.NOTE_START:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
-                return rowColor != null ? DAWColor.getColorIndex (rowColor) : AbstractSequencerView.COLOR_CONTENT;
+                    return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE);
+                return rowColor != null ? this.colorManager.getDAWColorIndex (rowColor) : this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_CONTENT_HANDLE);
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return this.colorManager.getColorIndexByHandle (hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT_HANDLE : AbstractSequencerView.COLOR_NO_CONTENT_HANDLE);
         }
     }
 
@@ -631,7 +646,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.halfColumns + pad % this.halfColumns;
             final int y = this.sequencerLines + pad / this.halfColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_NO_CONTENT_HANDLE));
         }
 
         // Paint the sequencer steps
@@ -643,7 +658,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite, rowColor) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite, rowColor) : this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_NO_CONTENT_HANDLE));
         }
     }
 
@@ -8,7 +8,6 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IModel;
@@ -189,30 +188,30 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
     }
 
 
-    private String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    private int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return this.colorManager.getColorIndexByHandle (isRecording ? AbstractDrumView.COLOR_PAD_RECORD_HANDLE : AbstractDrumView.COLOR_PAD_PLAY_HANDLE);
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return this.colorManager.getColorIndexByHandle (AbstractDrumView.COLOR_PAD_SELECTED_HANDLE);
 
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.colorManager.getColorIndexByHandle (this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF_HANDLE : AbstractDrumView.COLOR_PAD_NO_CONTENT_HANDLE);
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return this.colorManager.getColorIndexByHandle (AbstractDrumView.COLOR_PAD_MUTED_HANDLE);
 
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return this.colorManager.getDAWColorIndex (drumPad.getColor ());
     }
 
 
@@ -297,23 +297,23 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param hilite The step should be highlighted
      * @param note The note of the step
      * @param track A track from which to use the color
-     * @return The color
+     * @return The color index
      */
-    protected String getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
+    protected int getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
     {
         switch (isSet)
         {
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT_CONT;
+                return this.colorManager.getColorIndexByHandle (hilite ? COLOR_STEP_HILITE_CONTENT_HANDLE : COLOR_CONTENT_CONT_HANDLE);
 
             case IStepInfo.NOTE_START:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT;
+                return this.colorManager.getColorIndexByHandle (hilite ? COLOR_STEP_HILITE_CONTENT_HANDLE : COLOR_CONTENT_HANDLE);
 
             case IStepInfo.NOTE_OFF:
             default:
                 if (hilite)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
-                return this.getPadColor (note, this.useTrackColor ? track : null);
+                    return this.colorManager.getColorIndexByHandle (COLOR_STEP_HILITE_NO_CONTENT_HANDLE);
+                return this.getPadColorIndex (note, this.useTrackColor ? track : null);
         }
     }
 
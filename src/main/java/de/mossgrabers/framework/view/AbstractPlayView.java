@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -27,11 +28,18 @@ import java.util.Arrays;
 public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
     /** ID of the color to use when a pad is played. */
-    public static final String COLOR_PLAY   = "PLAY_VIEW_COLOR_PLAY";
+    public static final String COLOR_PLAY          = "PLAY_VIEW_COLOR_PLAY";
     /** ID of the color to use when a pad is played and recording is enabled. */
-    public static final String COLOR_RECORD = "PLAY_VIEW_COLOR_RECORD";
+    public static final String COLOR_RECORD        = "PLAY_VIEW_COLOR_RECORD";
     /** ID of the color to use when a pad does not contain a note. */
-    public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
+    public static final String COLOR_OFF           = "PLAY_VIEW_COLOR_OFF";
+
+    /** Handle of the color ID to use when a pad is played. */
+    public static final int    COLOR_PLAY_HANDLE   = ColorManager.getColorHandle (COLOR_PLAY);
+    /** Handle of the color ID to use when a pad is played and recording is enabled. */
+    public static final int    COLOR_RECORD_HANDLE = ColorManager.getColorHandle (COLOR_RECORD);
+    /** Handle of the color ID to use when a pad does not contain a note. */
+    public static final int    COLOR_OFF_HANDLE    = ColorManager.getColorHandle (COLOR_OFF);
 
     protected final int []     defaultVelocity;
     protected final boolean    useTrackColor;
@@ -114,17 +122,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color index
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
-            return this.getPadColor (note, this.useTrackColor ? track : null);
+                return this.colorManager.getColorIndexByHandle (isRecording ? AbstractPlayView.COLOR_RECORD_HANDLE : AbstractPlayView.COLOR_PLAY_HANDLE);
+            return this.getPadColorIndex (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.colorManager.getColorIndexByHandle (AbstractPlayView.COLOR_OFF_HANDLE);
     }
 
 
@@ -301,11 +301,19 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
                 }
 
                 // Change length of existing notes
-                for (int row = 0; row < 128; row++)
+                clip.startStepEdits ();
+                try
+                {
+                    for (int row = 0; row < 128; row++)
+                    {
+                        final IStepInfo stepInfo = clip.getStep (channel, s, row);
+                        if (stepInfo != null && stepInfo.getState () == IStepInfo.NOTE_START)
+                            clip.updateStepDuration (channel, s, row, duration);
+                    }
+                }
+                finally
                 {
-                    final IStepInfo stepInfo = clip.getStep (channel, s, row);
-                    if (stepInfo != null && stepInfo.getState () == IStepInfo.NOTE_START)
-                        clip.updateStepDuration (channel, s, row, duration);
+                    clip.commitStepEdits ();
                 }
 
                 return true;
@@ -341,7 +349,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite) : this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_NO_CONTENT_HANDLE));
         }
 
         // Paint the play part
@@ -375,17 +383,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      */
     protected int getStep (final INoteClip clip, final int col)
     {
-        int result = IStepInfo.NOTE_OFF;
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (int row = 0; row < 128; row++)
-        {
-            final int r = clip.getStep (editMidiChannel, col, row).getState ();
-            if (r == IStepInfo.NOTE_START)
-                return r;
-            if (r == IStepInfo.NOTE_CONTINUE)
-                result = IStepInfo.NOTE_CONTINUE;
-        }
-        return result;
+        return clip.getStepState (this.configuration.getMidiEditChannel (), col);
     }
 
 
@@ -394,22 +392,22 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      *
      * @param isSet True if the note is set
      * @param hilite True if note should be highlighted
-     * @return The color identifier
+     * @return The color index
      */
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return this.colorManager.getColorIndexByHandle (hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE : AbstractSequencerView.COLOR_CONTENT_CONT_HANDLE);
             // Note starts
             case IStepInfo.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return this.colorManager.getColorIndexByHandle (hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE : AbstractSequencerView.COLOR_CONTENT_HANDLE);
             // Empty
             case IStepInfo.NOTE_OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return this.colorManager.getColorIndexByHandle (hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT_HANDLE : AbstractSequencerView.COLOR_NO_CONTENT_HANDLE);
         }
     }
 
@@ -421,16 +419,16 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color index
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
-            return this.getPadColor (note, this.useTrackColor ? track : null);
+                return this.colorManager.getColorIndexByHandle (isRecording ? AbstractPlayView.COLOR_RECORD_HANDLE : AbstractPlayView.COLOR_PLAY_HANDLE);
+            return this.getPadColorIndex (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.colorManager.getColorIndexByHandle (AbstractPlayView.COLOR_OFF_HANDLE);
     }
 }
\ No newline at end of file
@@ -216,22 +216,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (row < 0)
             return -1;
-        int step;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (step = 0; step < length; step++)
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                break;
-        }
-        if (step >= length)
+        final int step = clip.getNextStepWithData (editMidiChannel, row, 0);
+        if (step < 0 || step >= length)
             return -1;
-        for (int step2 = step + 1; step2 < length; step2++)
-        {
-            if (clip.getStep (editMidiChannel, step2, row).getState () > 0)
-                return step2 - step;
-        }
-        return -1;
+        final int step2 = clip.getNextStepWithData (editMidiChannel, row, step + 1);
+        return step2 < 0 || step2 >= length ? -1 : step2 - step;
     }
 
 
@@ -241,20 +232,14 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
             return -1;
         if (start < 0 || start >= length)
             return -1;
-        int step = start;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        do
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                return counter;
-            step++;
-            counter++;
-            if (step >= length)
-                step = 0;
-        } while (step != start);
-        return -1;
+        final int step = clip.getNextStepWithData (editMidiChannel, row, start);
+        if (step >= 0 && step < length)
+            return step - start;
+        // Wrap around to the start of the clip
+        final int first = clip.getNextStepWithData (editMidiChannel, row, 0);
+        return first >= 0 && first < start ? length - start + first : -1;
     }
 
 
@@ -265,20 +250,14 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (start < 0 || start >= length)
             return -1;
         final int s = start == 0 ? length - 1 : start - 1;
-        int step = s;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        do
-        {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
-                return counter;
-            step--;
-            counter++;
-            if (step < 0)
-                step = length - 1;
-        } while (step != s);
-        return -1;
+        final int step = clip.getPreviousStepWithData (editMidiChannel, row, s);
+        if (step >= 0)
+            return s - step;
+        // Wrap around to the end of the clip
+        final int last = clip.getPreviousStepWithData (editMidiChannel, row, length - 1);
+        return last > s ? s + length - last : -1;
     }
 
 
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.constants.Resolution;
@@ -24,36 +25,53 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractSequencerView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for highlighting a step with no content. */
-    public static final String    COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
+    public static final String    COLOR_STEP_HILITE_NO_CONTENT        = "COLOR_STEP_HILITE_NO_CONTENT";
     /** The color for highlighting a step with with content. */
-    public static final String    COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
+    public static final String    COLOR_STEP_HILITE_CONTENT           = "COLOR_STEP_HILITE_CONTENT";
     /** The color for a step with no content. */
-    public static final String    COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
+    public static final String    COLOR_NO_CONTENT                    = "COLOR_NO_CONTENT";
     /** The color for a step with content. */
-    public static final String    COLOR_CONTENT                = "COLOR_CONTENT";
+    public static final String    COLOR_CONTENT                       = "COLOR_CONTENT";
     /** The color for a step with content which is not the start of the note. */
-    public static final String    COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
+    public static final String    COLOR_CONTENT_CONT                  = "COLOR_CONTENT_CONT";
     /** The color for a page. */
-    public static final String    COLOR_PAGE                   = "COLOR_PAGE";
+    public static final String    COLOR_PAGE                          = "COLOR_PAGE";
     /** The color for an active page. */
-    public static final String    COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
+    public static final String    COLOR_ACTIVE_PAGE                   = "COLOR_ACTIVE_PAGE";
     /** The color for a selected page. */
-    public static final String    COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
+    public static final String    COLOR_SELECTED_PAGE                 = "COLOR_SELECTED_PAGE";
     /** The color for resolution off. */
-    public static final String    COLOR_RESOLUTION_OFF         = "COLOR_RESOLUTION_OFF";
+    public static final String    COLOR_RESOLUTION_OFF                = "COLOR_RESOLUTION_OFF";
     /** The color for resolution. */
-    public static final String    COLOR_RESOLUTION             = "COLOR_RESOLUTION";
+    public static final String    COLOR_RESOLUTION                    = "COLOR_RESOLUTION";
     /** The color for selected resolution. */
-    public static final String    COLOR_RESOLUTION_SELECTED    = "COLOR_RESOLUTION_SELECTED";
+    public static final String    COLOR_RESOLUTION_SELECTED           = "COLOR_RESOLUTION_SELECTED";
     /** The color for transposition. */
-    public static final String    COLOR_TRANSPOSE              = "COLOR_TRANSPOSE";
+    public static final String    COLOR_TRANSPOSE                     = "COLOR_TRANSPOSE";
     /** The color for selected transposition. */
-    public static final String    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
+    public static final String    COLOR_TRANSPOSE_SELECTED            = "COLOR_TRANSPOSE_SELECTED";
+
+    /** Handle of the color for highlighting a step with no content. */
+    public static final int       COLOR_STEP_HILITE_NO_CONTENT_HANDLE = ColorManager.getColorHandle (COLOR_STEP_HILITE_NO_CONTENT);
+    /** Handle of the color for highlighting a step with with content. */
+    public static final int       COLOR_STEP_HILITE_CONTENT_HANDLE    = ColorManager.getColorHandle (COLOR_STEP_HILITE_CONTENT);
+    /** Handle of the color for a step with no content. */
+    public static final int       COLOR_NO_CONTENT_HANDLE             = ColorManager.getColorHandle (COLOR_NO_CONTENT);
+    /** Handle of the color for a step with content. */
+    public static final int       COLOR_CONTENT_HANDLE                = ColorManager.getColorHandle (COLOR_CONTENT);
+    /** Handle of the color for a step with content which is not the start of the note. */
+    public static final int       COLOR_CONTENT_CONT_HANDLE           = ColorManager.getColorHandle (COLOR_CONTENT_CONT);
+    /** Handle of the color for a page. */
+    public static final int       COLOR_PAGE_HANDLE                   = ColorManager.getColorHandle (COLOR_PAGE);
+    /** Handle of the color for an active page. */
+    public static final int       COLOR_ACTIVE_PAGE_HANDLE            = ColorManager.getColorHandle (COLOR_ACTIVE_PAGE);
+    /** Handle of the color for a selected page. */
+    public static final int       COLOR_SELECTED_PAGE_HANDLE          = ColorManager.getColorHandle (COLOR_SELECTED_PAGE);
 
     protected int                 numSequencerRows;
     protected int                 selectedResolutionIndex;
     protected final Configuration configuration;
-    protected boolean             isNoteEdited                 = false;
+    protected boolean             isNoteEdited                        = false;
 
     protected final int           clipRows;
     protected final int           clipCols;
@@ -249,20 +267,20 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The color index to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_ACTIVE_PAGE_HANDLE);
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_SELECTED_PAGE_HANDLE);
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_NO_CONTENT_HANDLE);
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return this.colorManager.getColorIndexByHandle (AbstractSequencerView.COLOR_PAGE_HANDLE);
     }
 
 
@@ -7,9 +7,8 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
-import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.ChangeCategory;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ISlotBank;
@@ -22,6 +21,10 @@ import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -34,29 +37,31 @@ import de.mossgrabers.framework.utils.Pair;
 public abstract class AbstractSessionView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for a scene. */
-    public static final String             COLOR_SCENE                = "COLOR_SCENE";
+    public static final String               COLOR_SCENE                = "COLOR_SCENE";
     /** The color for a selected scene. */
-    public static final String             COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
+    public static final String               COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
     /** The color for no scene. */
-    public static final String             COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
+    public static final String               COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
+
+    private static final Set<ChangeCategory> GRID_DEPENDENCIES          = Collections.unmodifiableSet (EnumSet.of (ChangeCategory.MIXER, ChangeCategory.SLOTS));
 
     // Needs to be overwritten with device specific colors
-    protected SessionColor                 clipColorIsRecording       = new SessionColor (0, -1, false);
-    protected SessionColor                 clipColorIsRecordingQueued = new SessionColor (1, -1, false);
-    protected SessionColor                 clipColorIsPlaying         = new SessionColor (2, -1, false);
-    protected SessionColor                 clipColorIsPlayingQueued   = new SessionColor (3, -1, false);
-    protected SessionColor                 clipColorHasContent        = new SessionColor (4, -1, false);
-    protected SessionColor                 clipColorHasNoContent      = new SessionColor (5, -1, false);
-    protected SessionColor                 clipColorIsRecArmed        = new SessionColor (6, -1, false);
+    protected SessionColor                   clipColorIsRecording       = new SessionColor (0, -1, false);
+    protected SessionColor                   clipColorIsRecordingQueued = new SessionColor (1, -1, false);
+    protected SessionColor                   clipColorIsPlaying         = new SessionColor (2, -1, false);
+    protected SessionColor                   clipColorIsPlayingQueued   = new SessionColor (3, -1, false);
+    protected SessionColor                   clipColorHasContent        = new SessionColor (4, -1, false);
+    protected SessionColor                   clipColorHasNoContent      = new SessionColor (5, -1, false);
+    protected SessionColor                   clipColorIsRecArmed        = new SessionColor (6, -1, false);
 
-    protected SessionColor                 birdColorHasContent        = new SessionColor (4, -1, false);
-    protected SessionColor                 birdColorSelected          = new SessionColor (2, -1, false);
+    protected SessionColor                   birdColorHasContent        = new SessionColor (4, -1, false);
+    protected SessionColor                   birdColorSelected          = new SessionColor (2, -1, false);
 
-    protected final BrowserActivator<S, C> browserModeActivator;
+    protected final BrowserActivator<S, C>   browserModeActivator;
 
-    protected int                          rows;
-    protected int                          columns;
-    protected boolean                      useClipColor;
+    protected int                            rows;
+    protected int                            columns;
+    protected boolean                        useClipColor;
 
 
     /**
@@ -241,6 +246,14 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Set<ChangeCategory> getGridDependencies ()
+    {
+        return GRID_DEPENDENCIES;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -365,37 +378,34 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final String colorIndex = DAWColor.getColorIndex (slot.getColor ());
-        final ColorManager cm = this.model.getColorManager ();
-
         if (slot.isRecordingQueued ())
             return this.clipColorIsRecordingQueued;
 
         if (slot.isRecording ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.colorManager.getDAWColorIndex (slot.getColor ()), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
             return this.clipColorIsRecording;
         }
 
         if (slot.isPlayingQueued ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.colorManager.getDAWColorIndex (slot.getColor ()), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
             return this.clipColorIsPlayingQueued;
         }
 
         if (slot.isPlaying ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.colorManager.getDAWColorIndex (slot.getColor ()), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
             return this.clipColorIsPlaying;
         }
 
         if (slot.hasContent ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.colorManager.getDAWColorIndex (slot.getColor ()), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
             return this.clipColorHasContent;
         }
 
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.ChangeCategory;
+import de.mossgrabers.framework.daw.ChangeTracker;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -19,6 +21,8 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.Set;
+
 
 /**
  * Abstract implementation of a view.
@@ -48,6 +52,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected boolean              canScrollUp;
     protected boolean              canScrollDown;
 
+    private final long []          gridEpochs  = ChangeTracker.createEpochs ();
+
 
     /**
      * Constructor.
@@ -156,6 +162,28 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isGridDirty ()
+    {
+        final Set<ChangeCategory> dependencies = this.getGridDependencies ();
+        return dependencies == null || this.model.getChangeTracker ().update (dependencies, this.gridEpochs);
+    }
+
+
+    /**
+     * Get the categories of model data on which the drawing of the grid depends. Overwrite to
+     * allow the surface to skip drawing the grid if none of them has changed. The state of the
+     * surface (buttons, modes) is tracked by the surface.
+     *
+     * @return The categories or null if the grid needs to be drawn on every flush
+     */
+    protected Set<ChangeCategory> getGridDependencies ()
+    {
+        return null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onGridNoteLongPress (final int note)
@@ -186,6 +214,24 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * Get the color index to use for a pad with respect to the current scale settings. Same as
+     * {@link #getPadColor(int, ITrack)} but resolves the color by its handle.
+     *
+     * @param pad The midi note of the pad
+     * @param track A track to use the track color for coloring the octave notes, set to null to use
+     *            the default color
+     * @return The color index
+     */
+    protected int getPadColorIndex (final int pad, final ITrack track)
+    {
+        final int handle = this.keyManager.getColorHandle (pad);
+        if (handle == Scales.SCALE_COLOR_OCTAVE_HANDLE && track != null)
+            return this.colorManager.getDAWColorIndex (track.getColor ());
+        return this.colorManager.getColorIndexByHandle (handle);
+    }
+
+
     /**
      * If the given color ID is the octave color ID it will be replaced with the track color ID.
      *
@@ -69,6 +69,15 @@ public interface View
     void drawGrid ();
 
 
+    /**
+     * Test if the model data on which the drawing of the grid depends has changed since the last
+     * call. If it has not changed the surface may skip drawing the grid.
+     *
+     * @return True if the grid needs to be redrawn
+     */
+    boolean isGridDirty ();
+
+
     /**
      * A pad has been pressed or released.
      *